@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares looking up the matches of {@code find --fuzzy} from the name BK-tree with measuring the edit distance to
+ * every name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class FuzzyNameSearchBenchmark {
+
+    @Param({"10000", "100000", "500000"})
+    private int size;
+
+    // a typo of a generated word, and a long keyword that is allowed two edits
+    @Param({"lorvek", "brichotan"})
+    private String keyword;
+
+    private AddressBook addressBook;
+    private NameFuzzyMatchPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.setPersons(NameSearchBenchmark.generatePersons(size));
+        predicate = new NameFuzzyMatchPredicate(List.of(keyword));
+    }
+
+    @Benchmark
+    public Set<Person> findFromTree() {
+        return predicate.findMatches(addressBook);
+    }
+
+    @Benchmark
+    public Set<Person> findByScan() {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares testing every name against the keywords of {@code find} one keyword at a time, lower-casing the name and
+ * the keywords on every test as the predicate used to, with the compiled matcher of the predicate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class NameKeywordMatchBenchmark {
+
+    private static final int SIZE = 100000;
+
+    @Param({"1", "5", "20"})
+    private int keywordCount;
+
+    private List<Person> persons;
+    private List<String> keywords;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = NameSearchBenchmark.generatePersons(SIZE);
+        // keywords that no name contains, so that every keyword is tried on every name
+        keywords = IntStream.range(0, keywordCount)
+                .mapToObj(i -> "Xq" + (char) ('a' + i % 26) + i)
+                .collect(Collectors.toList());
+        predicate = new NameContainsKeywordsPredicate(keywords);
+    }
+
+    @Benchmark
+    public long matchKeywordByKeyword() {
+        return persons.stream()
+                .filter(person -> {
+                    String lowerCaseName = person.getName().fullName.toLowerCase();
+                    return keywords.stream().anyMatch(keyword -> lowerCaseName.contains(keyword.toLowerCase()));
+                })
+                .count();
+    }
+
+    @Benchmark
+    public long matchCompiled() {
+        return persons.stream().filter(predicate).count();
+    }
+}
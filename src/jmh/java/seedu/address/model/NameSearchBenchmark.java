@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Closeness;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Handle;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Compares looking up the matches of {@code find} from the name trigram index with testing every person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class NameSearchBenchmark {
+
+    private static final String[] SYLLABLES = {
+        "al", "be", "ca", "do", "el", "fi", "ga", "ho", "in", "jo", "ka", "li", "ma", "no", "or", "pa", "qu", "ri",
+        "sa", "ta", "ul", "ve", "wi", "xa", "yo", "ze", "bri", "cho", "dra", "fen", "gwi", "kha", "lor", "mei",
+        "nor", "phi", "ros", "shi", "tan", "vik"
+    };
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"xaqukh", "lorvik"})
+    private String keyword;
+
+    private AddressBook addressBook;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(size));
+        predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+    }
+
+    @Benchmark
+    public Set<Person> findFromIndex() {
+        return predicate.findMatches(addressBook);
+    }
+
+    @Benchmark
+    public Set<Person> findByScan() {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns {@code count} persons with distinct identities and names made of three syllables each.
+     */
+    static List<Person> generatePersons(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Person(new Name(nameOf(i)), new Phone(String.valueOf(80000000 + i)),
+                        new Email("person" + i + "@example.com"), new Address(i + " Clementi Ave"), Set.of(),
+                        new Handle("@person" + i), new Closeness(String.valueOf(i % 5 + 1))))
+                .collect(Collectors.toList());
+    }
+
+    private static String nameOf(int i) {
+        int n = SYLLABLES.length;
+        String first = SYLLABLES[i % n] + SYLLABLES[(i / n) % n];
+        String last = SYLLABLES[(i / (n * n)) % n] + SYLLABLES[(i * 7 + 3) % n] + SYLLABLES[(i / 13) % n];
+        return Character.toUpperCase(first.charAt(0)) + first.substring(1) + " "
+                + Character.toUpperCase(last.charAt(0)) + last.substring(1);
+    }
+}
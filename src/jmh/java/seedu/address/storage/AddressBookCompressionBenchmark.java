@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures the CPU time that compressing the data file costs against the bytes it saves: the address book is saved
+ * and read back uncompressed, and compressed at the fastest, default and best deflate levels.
+ * The size of the file saved at each level is printed once it is set up. Files are not forced to the disk, so that
+ * the times are those of the CPU; on a slow disk, such as a network drive, the bytes saved also save time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AddressBookCompressionBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"none", "fastest", "default", "best"})
+    private String compression;
+
+    private AddressBook addressBook;
+    private Path folder;
+    private Path filePath;
+    private FileUtil.ContentWriter writer;
+    private JsonAddressBookReader reader;
+
+    @Setup
+    public void setUp() throws IOException, IllegalValueException {
+        addressBook = new JsonSerializableAddressBook(AddressBookLoadBenchmark.generatePersons(size)).toModelType();
+        folder = Files.createTempDirectory("compression-benchmark");
+        filePath = folder.resolve("addressbook.json");
+        FileUtil.ContentWriter json = out -> {
+            JsonGenerator generator = JsonUtil.createGenerator(out, true);
+            JsonSerializableAddressBook.writeJson(addressBook, 0, generator);
+            generator.flush();
+        };
+        switch (compression) {
+        case "fastest":
+            writer = FileUtil.compressed(json, Deflater.BEST_SPEED);
+            break;
+        case "default":
+            writer = FileUtil.compressed(json, Deflater.DEFAULT_COMPRESSION);
+            break;
+        case "best":
+            writer = FileUtil.compressed(json, Deflater.BEST_COMPRESSION);
+            break;
+        default:
+            writer = json;
+        }
+        reader = new JsonAddressBookReader();
+        save();
+        System.out.printf("%n%d persons, %s compression: %d bytes%n", size, compression, Files.size(filePath));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(FileUtil.getTempFilePath(filePath));
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        FileUtil.writeToFileAtomically(filePath, writer, false);
+    }
+
+    @Benchmark
+    public List<Person> read() throws IOException, IllegalValueException {
+        return reader.read(filePath).get().getPersons();
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares reading the data file into an address book by reading the whole file and checking every record on one
+ * thread, as {@code JsonAddressBookStorage} used to, with streaming the records and checking them in parallel batches,
+ * and with reading the same persons from the memory-mapped binary file of {@code BinaryAddressBookStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AddressBookFileLoadBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Path folder;
+    private Path filePath;
+    private Path binaryFilePath;
+    private JsonAddressBookReader reader;
+    private BinaryAddressBookStorage binaryStorage;
+
+    @Setup
+    public void setUp() throws IOException, IllegalValueException {
+        folder = Files.createTempDirectory("load-benchmark");
+        filePath = folder.resolve("addressbook.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(AddressBookLoadBenchmark.generatePersons(size)),
+                filePath);
+        reader = new JsonAddressBookReader();
+        binaryFilePath = folder.resolve("addressbook.bin");
+        binaryStorage = new BinaryAddressBookStorage(binaryFilePath, FsyncPolicy.NEVER);
+        binaryStorage.saveAddressBook(reader.read(filePath).get().toAddressBook());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(binaryFilePath);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public List<Person> readWholeFileSerially() throws DataLoadingException, IllegalValueException {
+        AddressBook addressBook = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        return addressBook.getPersonList();
+    }
+
+    @Benchmark
+    public List<Person> readStreamingInParallel() throws IOException, IllegalValueException {
+        return reader.read(filePath).get().toAddressBook().getPersonList();
+    }
+
+    @Benchmark
+    public List<Person> readBinaryMapped() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get().getPersonList();
+    }
+}
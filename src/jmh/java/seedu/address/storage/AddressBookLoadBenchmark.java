@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Measures how long {@link JsonSerializableAddressBook#toModelType()} takes to turn deserialized records into an
+ * {@code AddressBook}, i.e. the part of startup that runs after the JSON file has been parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AddressBookLoadBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private JsonSerializableAddressBook serializedAddressBook;
+
+    @Setup
+    public void setUp() {
+        serializedAddressBook = new JsonSerializableAddressBook(generatePersons(size));
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializedAddressBook.toModelType();
+    }
+
+    /**
+     * Returns {@code count} valid records with distinct phones, emails and handles.
+     */
+    static List<JsonAdaptedPerson> generatePersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new JsonAdaptedPerson("Person " + i, String.valueOf(80000000 + i),
+                    "person" + i + "@example.com", i + " Clementi Ave " + (i % 10),
+                    List.of(new JsonAdaptedTag("group" + (i % 50))), "@person" + i, "",
+                    String.valueOf(i % 5 + 1)));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileSyncer;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Compares saving the address book by serializing it to a {@code String} first, as {@code JsonAddressBookStorage}
+ * used to, with streaming it to the file through a {@code JsonGenerator}, pretty-printed and on a single line.
+ * Files are not forced to the disk, so that the disk does not dominate the measurement.
+ * Run with {@code -prof gc} to compare the memory allocated per save, which grows with the size of the file for
+ * the {@code String} path only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AddressBookSaveBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Path folder;
+    private Path filePath;
+    private FileSyncer fileSyncer;
+
+    @Setup
+    public void setUp() throws IOException, IllegalValueException {
+        addressBook = new JsonSerializableAddressBook(AddressBookLoadBenchmark.generatePersons(size)).toModelType();
+        folder = Files.createTempDirectory("save-benchmark");
+        filePath = folder.resolve("addressbook.json");
+        fileSyncer = new FileSyncer(FsyncPolicy.NEVER);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(FileUtil.getTempFilePath(filePath));
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void saveThroughString() throws IOException {
+        FileUtil.writeToFileAtomically(filePath, JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                false);
+    }
+
+    @Benchmark
+    public void saveStreamingPrettyPrinted() throws IOException {
+        JsonUtil.saveJsonFileStreaming(filePath, generator -> JsonSerializableAddressBook.writeJson(addressBook, 0,
+                generator), true, fileSyncer);
+    }
+
+    @Benchmark
+    public void saveStreamingSingleLine() throws IOException {
+        JsonUtil.saveJsonFileStreaming(filePath, generator -> JsonSerializableAddressBook.writeJson(addressBook, 0,
+                generator), false, fileSyncer);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares finding the newest command containing the text searched for by Ctrl+R from the trigram index of
+ * {@code CommandHistory} with checking every command from the newest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CommandHistorySearchBenchmark {
+
+    private static final String[] SYLLABLES = {
+        "al", "be", "ca", "do", "el", "fi", "ga", "ho", "in", "jo", "ka", "li", "ma", "no", "or", "pa", "qu", "ri",
+        "sa", "ta", "ul", "ve", "wi", "xa", "yo", "ze", "bri", "cho", "dra", "fen", "gwi", "kha", "lor", "mei",
+        "nor", "phi", "ros", "shi", "tan", "vik"
+    };
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    // an old command, a command typed often, and text, long and short, that no command contains
+    @Param({"find zhivago", "list", "sort n/x", "zh"})
+    private String query;
+
+    private CommandHistory history;
+    private List<String> commands;
+
+    @Setup
+    public void setUp() {
+        history = new CommandHistory(size, new InMemoryStorage());
+        commands = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String command = commandOf(i);
+            history.push(command);
+            commands.add(command);
+        }
+    }
+
+    @Benchmark
+    public Optional<String> searchFromIndex() {
+        history.resetSearch();
+        return history.search(query);
+    }
+
+    @Benchmark
+    public Optional<String> searchByScan() {
+        String lowerCaseQuery = query.toLowerCase();
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            if (commands.get(i).toLowerCase().contains(lowerCaseQuery)) {
+                return Optional.of(commands.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the {@code i}-th of a mix of commands, in which only one of the oldest commands finds the name
+     * "Zhivago".
+     */
+    private static String commandOf(int i) {
+        int n = SYLLABLES.length;
+        String name = SYLLABLES[(i / n + 3) % n] + SYLLABLES[(i * 7 + 1) % n] + SYLLABLES[(i / 13) % n];
+        switch (i % 4) {
+        case 0:
+            return "add n/" + name + " p/" + (80000000 + i) + " e/" + name + "@example.com a/" + i + " Clementi Ave";
+        case 1:
+            return i == 1 ? "find Zhivago" : "find " + name;
+        case 2:
+            return "edit " + (i % 50 + 1) + " t/" + name;
+        default:
+            return i % 400 == 3 ? "list" : "delete " + (i % 50 + 1);
+        }
+    }
+
+    /**
+     * A storage that keeps nothing, so that pushing the commands does not write to a file.
+     */
+    private static class InMemoryStorage implements CommandHistoryStorage {
+        @Override
+        public Path getCommandHistoryFilePath() {
+            return Path.of("command_history.txt");
+        }
+
+        @Override
+        public Optional<List<String>> readCommandHistory() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<List<String>> readCommandHistory(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveCommandHistory(List<String> oldestFirst) throws IOException {
+        }
+
+        @Override
+        public void appendCommand(String command) throws IOException {
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -24,11 +30,14 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 //import seedu.address.storage.*;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AddressBookWriter;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.CommandHistory;
 import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.FileCommandHistoryStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -47,6 +56,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AddressBookWriter addressBookWriter;
     protected Model model;
     protected Config config;
 
@@ -60,47 +70,108 @@ public class MainApp extends Application {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath(),
+                config.getFsyncPolicy());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        Map<DataFileFormat, AddressBookStorage> addressBookStorages = createAddressBookStorages(userPrefs);
+        AddressBookStorage addressBookStorage = addressBookStorages.remove(userPrefs.getAddressBookFileFormat());
         CommandHistoryStorage commandHistoryStorage = new FileCommandHistoryStorage(
                 userPrefs.getCommandHistoryFilePath());
         CommandHistory commandHistory = new CommandHistory(500, commandHistoryStorage);
         storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, addressBookStorages.values(), userPrefs);
 
-        logic = new LogicManager(model, storage, commandHistory);
+        addressBookWriter = new AddressBookWriter(storage);
+        logic = new LogicManager(model, commandHistory, addressBookWriter);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a storage of the address book in each format, all kept next to the json file of {@code userPrefs}.
+     */
+    private Map<DataFileFormat, AddressBookStorage> createAddressBookStorages(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        Map<DataFileFormat, AddressBookStorage> storages = new EnumMap<>(DataFileFormat.class);
+        storages.put(DataFileFormat.JSON, new JournaledAddressBookStorage(jsonFilePath, config.getFsyncPolicy(),
+                config.isDataFilePrettyPrinted(), config.isDataFileCompressed()));
+        storages.put(DataFileFormat.BINARY, new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath), config.getFsyncPolicy()));
+        storages.put(DataFileFormat.SEGMENTED, new SegmentedAddressBookStorage(
+                SegmentedAddressBookStorage.getManifestFilePath(jsonFilePath),
+                SegmentedAddressBookStorage.DEFAULT_SEGMENT_COUNT, config.getFsyncPolicy(),
+                config.isDataFilePrettyPrinted()));
+        return storages;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The address book is imported from the one of {@code otherFormatStorages} it was saved to most recently instead,
+     * if that was after it was saved to {@code storage}, as it is after the format of the data file is changed in the
+     * preferences. It is then saved to {@code storage} right away.
+     * The data from the sample address book will be used instead if no address book is found,
+     * or an empty address book will be used instead if errors occur when reading the address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, Collection<AddressBookStorage> otherFormatStorages,
+            ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
+        AddressBookStorage source = storage;
+        long sourceLastModified = getLastModifiedMillis(storage.getAddressBookFilePath());
+        for (AddressBookStorage otherFormatStorage : otherFormatStorages) {
+            long lastModified = getLastModifiedMillis(otherFormatStorage.getAddressBookFilePath());
+            if (lastModified > sourceLastModified) {
+                source = otherFormatStorage;
+                sourceLastModified = lastModified;
+            }
+        }
+        boolean isImported = source != storage;
+        if (isImported) {
+            logger.info("Importing the address book from the more recently saved data file "
+                    + source.getAddressBookFilePath());
+        }
+
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = source.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+            logger.warning("Data file at " + source.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            return new ModelManager(new AddressBook(), userPrefs);
         }
 
+        if (isImported) {
+            try {
+                storage.saveAddressBook(initialData);
+            } catch (IOException e) {
+                logger.warning("Failed to save the imported address book : " + StringUtil.getDetails(e));
+            }
+        }
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns when the data file at {@code filePath}, or its journal, was last modified, or -1 if neither exists.
+     */
+    private static long getLastModifiedMillis(Path filePath) {
+        long lastModified = -1;
+        for (Path file : List.of(filePath, JournaledAddressBookStorage.getJournalFilePath(filePath))) {
+            try {
+                lastModified = Math.max(lastModified, Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException e) {
+                // the file does not exist, or cannot be read, so there is nothing to import from it
+            }
+        }
+        return lastModified;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -184,6 +255,14 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // init may have failed before creating any of these
+        if (addressBookWriter != null) {
+            // waits for the changes that are still being saved, so none are lost on exit
+            addressBookWriter.close();
+        }
+        if (storage == null || model == null) {
+            return;
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private boolean dataFilePrettyPrinted = true;
+    private boolean dataFileCompressed = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public boolean isDataFilePrettyPrinted() {
+        return dataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean dataFilePrettyPrinted) {
+        this.dataFilePrettyPrinted = dataFilePrettyPrinted;
+    }
+
+    public boolean isDataFileCompressed() {
+        return dataFileCompressed;
+    }
+
+    public void setDataFileCompressed(boolean dataFileCompressed) {
+        this.dataFileCompressed = dataFileCompressed;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +74,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(fsyncPolicy, otherConfig.fsyncPolicy)
+                && dataFilePrettyPrinted == otherConfig.dataFilePrettyPrinted
+                && dataFileCompressed == otherConfig.dataFileCompressed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, fsyncPolicy, dataFilePrettyPrinted, dataFileCompressed);
     }
 
     @Override
@@ -60,6 +90,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("fsyncPolicy", fsyncPolicy)
+                .add("dataFilePrettyPrinted", dataFilePrettyPrinted)
+                .add("dataFileCompressed", dataFileCompressed)
                 .toString();
     }
 
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The format the address book is kept in on the disk.
+ */
+public enum DataFileFormat {
+    /** A json file, readable and editable by hand. */
+    JSON,
+    /** A compact binary file, smaller on the disk and faster to read. */
+    BINARY,
+    /** Json files that each hold some of the persons, so that a change rewrites only the files it touches. */
+    SEGMENTED
+}
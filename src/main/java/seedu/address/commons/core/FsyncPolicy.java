@@ -0,0 +1,20 @@
+package seedu.address.commons.core;
+
+/**
+ * When a saved file is forced from the operating system's cache to the disk.
+ * A save is atomic under every policy: the new content of a file is always forced to the disk before it replaces the
+ * old file, so a crash leaves either the old file or the new one. The policy only decides how soon the replacement,
+ * and each entry appended to the journal, is forced too, and so how recent a save is sure to survive a power failure
+ * or a crash of the operating system.
+ */
+public enum FsyncPolicy {
+    /** Every save is on the disk before it completes. The slowest policy. */
+    ALWAYS,
+    /**
+     * A save is forced to the disk if no earlier save has been for a second, and the saves in that second are forced
+     * together once it ends, so at most a second of saves is lost.
+     */
+    BATCHED,
+    /** Saves are left to the operating system to write out. The fastest policy. */
+    NEVER
+}
@@ -0,0 +1,125 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.core.FsyncPolicy;
+
+/**
+ * Decides, by an {@link FsyncPolicy}, which of the writes to a file are forced to the disk.
+ * Under {@link FsyncPolicy#BATCHED}, the writes that are not forced when they are made are forced together once the
+ * batch interval after the last forced write ends, so no write is left unforced for longer than the interval.
+ */
+public class FileSyncer {
+
+    /** Under {@link FsyncPolicy#BATCHED}, the most time for which the writes to a file are left unforced. */
+    public static final long BATCH_INTERVAL_MILLIS = 1000;
+
+    private static ScheduledExecutorService trailingSyncs;
+
+    private final FsyncPolicy policy;
+    private final long batchIntervalMillis;
+    private final Set<Path> unforcedPaths = new LinkedHashSet<>();
+    private boolean hasSynced;
+    private long lastSyncMillis;
+
+    public FileSyncer(FsyncPolicy policy) {
+        this(policy, BATCH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Creates a syncer that batches the writes under {@link FsyncPolicy#BATCHED} over {@code batchIntervalMillis}.
+     */
+    FileSyncer(FsyncPolicy policy, long batchIntervalMillis) {
+        this.policy = requireNonNull(policy);
+        this.batchIntervalMillis = batchIntervalMillis;
+    }
+
+    public FsyncPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns true if the replacement of {@code file} about to be made by
+     * {@link FileUtil#writeToFileAtomically(Path, FileUtil.ContentWriter, boolean)} should be forced to the disk.
+     * If it is not, under {@link FsyncPolicy#BATCHED}, the directory holding the file is forced at the end of the
+     * batch instead, as the new content itself is always forced before it replaces the file.
+     */
+    public boolean shouldSyncReplacing(Path file) {
+        requireNonNull(file);
+        return shouldSync(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Returns true if the write about to be appended to {@code file} should be forced to the disk.
+     * If it is not, under {@link FsyncPolicy#BATCHED}, the file is forced at the end of the batch instead.
+     */
+    public boolean shouldSyncAppendingTo(Path file) {
+        requireNonNull(file);
+        return shouldSync(file.toAbsolutePath());
+    }
+
+    /**
+     * Returns true if the write about to be made should be forced to the disk.
+     * Under {@link FsyncPolicy#BATCHED}, that is the first write, and then the first write at least the batch interval
+     * after the last one forced; {@code pathToForce} of a write in between is forced once that interval ends.
+     */
+    private synchronized boolean shouldSync(Path pathToForce) {
+        if (policy == FsyncPolicy.ALWAYS) {
+            return true;
+        }
+        if (policy == FsyncPolicy.NEVER) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (!hasSynced || now - lastSyncMillis >= batchIntervalMillis) {
+            hasSynced = true;
+            lastSyncMillis = now;
+            return true;
+        }
+        if (pathToForce != null && unforcedPaths.add(pathToForce) && unforcedPaths.size() == 1) {
+            getTrailingSyncs().schedule(this::forceUnforcedPaths, lastSyncMillis + batchIntervalMillis - now,
+                    TimeUnit.MILLISECONDS);
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if some write made under {@link FsyncPolicy#BATCHED} is still waiting to be forced.
+     */
+    public synchronized boolean hasUnforcedWrites() {
+        return !unforcedPaths.isEmpty();
+    }
+
+    /**
+     * Forces the files and directories of the writes left unforced in the last batch, which starts a new batch.
+     */
+    public void forceUnforcedPaths() {
+        List<Path> paths;
+        synchronized (this) {
+            paths = new ArrayList<>(unforcedPaths);
+            unforcedPaths.clear();
+            lastSyncMillis = System.currentTimeMillis();
+        }
+        paths.forEach(FileUtil::forceToDisk);
+    }
+
+    private static synchronized ScheduledExecutorService getTrailingSyncs() {
+        if (trailingSyncs == null) {
+            trailingSyncs = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "file-syncer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return trailingSyncs;
+    }
+}
@@ -1,17 +1,31 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,6 +94,144 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, replacing the file in one step, so that a crash while writing leaves either the
+     * old content or the new one, never a mix of the two.
+     * Will create the file if it does not exist yet.
+     *
+     * The new content is always forced to the disk before it replaces the file, as some file systems can otherwise
+     * leave the replaced file empty after a power failure.
+     *
+     * @param isSynced whether the replacement is to be on the disk, and not only in the operating system's cache,
+     *     before this returns.
+     */
+    public static void writeToFileAtomically(Path file, String content, boolean isSynced) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)), isSynced);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, boolean)}, with the content written by {@code writer}.
+     * The content is written to a temporary file next to {@code file}, which is then renamed over {@code file}.
+     * A temporary file left behind by a crash is overwritten by the next write.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer, boolean isSynced) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                    OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveReplacing(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        if (isSynced) {
+            // the rename itself is only on the disk once the directory holding the file is
+            syncDirectory(file);
+        }
+    }
+
+    /**
+     * Returns the temporary file that {@link #writeToFileAtomically(Path, ContentWriter, boolean)} writes the content
+     * of {@code file} to before it replaces {@code file}.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void syncDirectory(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            forceToDisk(directory);
+        }
+    }
+
+    /**
+     * Forces the content of the file or directory at {@code path} from the operating system's cache to the disk, doing
+     * nothing if there is nothing at {@code path}.
+     */
+    public static void forceToDisk(Path path) {
+        boolean isDirectory = Files.isDirectory(path);
+        try (FileChannel channel = FileChannel.open(path,
+                isDirectory ? StandardOpenOption.READ : StandardOpenOption.WRITE)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // some platforms, such as Windows, cannot open a directory, and make renames in it durable by themselves;
+            // a file that is gone has nothing left to force
+        }
+    }
+
+    /**
+     * Returns a writer of the content {@code writer} writes, compressed in the gzip format at the deflate
+     * {@code level}, from {@link java.util.zip.Deflater#BEST_SPEED} to {@link java.util.zip.Deflater#BEST_COMPRESSION}.
+     */
+    public static ContentWriter compressed(ContentWriter writer, int level) {
+        return out -> {
+            LeveledGzipOutputStream gzip = new LeveledGzipOutputStream(out, level);
+            try {
+                writer.writeTo(gzip);
+                gzip.finish();
+            } finally {
+                gzip.release();
+            }
+        };
+    }
+
+    /**
+     * Returns a stream of the content of {@code file}, decompressed if the file is in the gzip format, as told by
+     * the magic number it starts with, or as it is otherwise.
+     */
+    public static InputStream newDecompressingInputStream(Path file) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(Files.newInputStream(file), COMPRESSION_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in, COMPRESSION_BUFFER_SIZE) : in;
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * A gzip stream at a chosen compression level, which leaves the stream it writes to open once finished.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, COMPRESSION_BUFFER_SIZE);
+            def.setLevel(level);
+        }
+
+        /**
+         * Frees the memory held by the compressor, which closing the stream would do, but would close {@code out}.
+         */
+        void release() {
+            def.end();
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     /**
      * Copies a file from source to destination.
      * Will create parent directories if they don't exist.
@@ -0,0 +1,181 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds whether a text contains any of a set of keywords, ignoring case, in a single pass over the text.
+ * The keywords are compiled once into an Aho-Corasick automaton over their case-folded chars: a trie of the keywords
+ * in which every state also links to the state of its longest proper suffix that is in the trie, so that a mismatch
+ * falls back along the links instead of restarting from the next char of the text.
+ * Matching does not allocate, so a compiled matcher can be reused to test many texts cheaply.
+ * Case is folded one char at a time by {@link StringUtil#foldCase(char)}, as it is by any index whose candidates are
+ * checked with a matcher, so that both agree on which texts contain a keyword.
+ */
+public class KeywordMatcher {
+
+    private static final int ROOT = 0;
+    private static final char[] NO_LABELS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    // the transitions of each state, sorted by label so that they can be binary searched
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fallbacks;
+    // whether a keyword ends at the state, or at a state it falls back to
+    private final boolean[] accepting;
+
+    private KeywordMatcher(char[][] labels, int[][] targets, int[] fallbacks, boolean[] accepting) {
+        this.labels = labels;
+        this.targets = targets;
+        this.fallbacks = fallbacks;
+        this.accepting = accepting;
+    }
+
+    /**
+     * Compiles a matcher for {@code keywords}. An empty keyword is contained in every text.
+     */
+    public static KeywordMatcher compile(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Builder builder = new Builder();
+        keywords.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords, ignoring case.
+     */
+    public boolean matchesAnyIn(CharSequence text) {
+        requireNonNull(text);
+        int state = ROOT;
+        if (accepting[state]) {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = StringUtil.foldCase(text.charAt(i));
+            int next = transition(state, c);
+            while (next < 0 && state != ROOT) {
+                state = fallbacks[state];
+                next = transition(state, c);
+            }
+            state = next < 0 ? ROOT : next;
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int transition(int state, char c) {
+        int i = Arrays.binarySearch(labels[state], c);
+        return i < 0 ? -1 : targets[state][i];
+    }
+
+    /**
+     * Builds the trie of the keywords, then links every state to its fallback breadth-first, as the fallback of a
+     * state is always shallower than it.
+     */
+    private static class Builder {
+        private final List<StringBuilder> labels = new ArrayList<>();
+        private final List<List<Integer>> targets = new ArrayList<>();
+        private final List<Boolean> accepting = new ArrayList<>();
+
+        Builder() {
+            newState();
+        }
+
+        void add(String keyword) {
+            requireNonNull(keyword);
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = StringUtil.foldCase(keyword.charAt(i));
+                int index = labels.get(state).indexOf(String.valueOf(c));
+                if (index >= 0) {
+                    state = targets.get(state).get(index);
+                } else {
+                    int next = newState();
+                    labels.get(state).append(c);
+                    targets.get(state).add(next);
+                    state = next;
+                }
+            }
+            accepting.set(state, true);
+        }
+
+        KeywordMatcher build() {
+            int stateCount = labels.size();
+            char[][] sortedLabels = new char[stateCount][];
+            int[][] sortedTargets = new int[stateCount][];
+            for (int state = 0; state < stateCount; state++) {
+                sortTransitions(state, sortedLabels, sortedTargets);
+            }
+
+            int[] fallbacks = new int[stateCount];
+            boolean[] isAccepting = new boolean[stateCount];
+            isAccepting[ROOT] = accepting.get(ROOT);
+            Deque<Integer> toVisit = new ArrayDeque<>();
+            toVisit.add(ROOT);
+            while (!toVisit.isEmpty()) {
+                int state = toVisit.poll();
+                for (int i = 0; i < sortedLabels[state].length; i++) {
+                    int child = sortedTargets[state][i];
+                    int fallback = state == ROOT ? ROOT : fallbackOf(fallbacks[state], sortedLabels[state][i],
+                            fallbacks, sortedLabels, sortedTargets);
+                    fallbacks[child] = fallback;
+                    isAccepting[child] = accepting.get(child) || isAccepting[fallback];
+                    toVisit.add(child);
+                }
+            }
+            return new KeywordMatcher(sortedLabels, sortedTargets, fallbacks, isAccepting);
+        }
+
+        /**
+         * Returns the state reached on {@code c} from {@code state} or the nearest state it falls back to.
+         */
+        private static int fallbackOf(int state, char c, int[] fallbacks, char[][] labels, int[][] targets) {
+            while (true) {
+                int i = Arrays.binarySearch(labels[state], c);
+                if (i >= 0) {
+                    return targets[state][i];
+                }
+                if (state == ROOT) {
+                    return ROOT;
+                }
+                state = fallbacks[state];
+            }
+        }
+
+        private void sortTransitions(int state, char[][] sortedLabels, int[][] sortedTargets) {
+            char[] stateLabels = labels.get(state).toString().toCharArray();
+            if (stateLabels.length == 0) {
+                sortedLabels[state] = NO_LABELS;
+                sortedTargets[state] = NO_TARGETS;
+                return;
+            }
+            Integer[] order = new Integer[stateLabels.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (first, second) -> Character.compare(stateLabels[first], stateLabels[second]));
+            sortedLabels[state] = new char[order.length];
+            sortedTargets[state] = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedLabels[state][i] = stateLabels[order[i]];
+                sortedTargets[state][i] = targets.get(state).get(order[i]);
+            }
+        }
+
+        private int newState() {
+            labels.add(new StringBuilder());
+            targets.add(new ArrayList<>());
+            accepting.add(false);
+            return labels.size() - 1;
+        }
+    }
+}
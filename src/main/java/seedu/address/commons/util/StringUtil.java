@@ -12,6 +12,12 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    // consonants that sound alike share a code, as in Soundex but with m and n apart; vowels and h, w and y have none
+    private static final String PHONETIC_CODES = "01230120022457012623010202";
+    // the broad sound of each vowel, taking y as a vowel after the first letter; '-' for consonants
+    private static final String VOWEL_CLASSES = "a---e---e-----o-----o---e-";
+    private static final String[] SILENT_FIRST_LETTER_PREFIXES = {"kn", "gn", "pn", "wr", "ps", "eng"};
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -38,6 +44,133 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, i.e. the least number of
+     * single-character insertions, deletions and substitutions that turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("alex", "alx") == 1
+     *       editDistance("kitten", "sitting") == 3
+     *       </pre>
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // only the previous row of the distance table is needed to compute the next one
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns a key for how {@code word} sounds, so that words spelt differently but pronounced alike have the same
+     * key.
+     * Like Soundex, the key keeps the first letter, counting every vowel as one letter and a c as the k or s it sounds
+     * like, and gives consonants that sound alike the same code, merging repeated codes. Unlike Soundex, m and n keep
+     * codes of their own, the first vowel sound after the first letter is kept as broadly a, e or o, and the key is not
+     * padded.
+     * A leading "e" before "ng" is silent, so that e.g. "Ng" and "Eng" match. Non-letters are ignored.
+     *   <br>examples:<pre>
+     *       phoneticKey("Mohammed") == phoneticKey("Muhammad")
+     *       phoneticKey("Ng") == phoneticKey("Eng")
+     *       phoneticKey("Tan") != phoneticKey("Tim")
+     *       </pre>
+     */
+    public static String phoneticKey(String word) {
+        requireNonNull(word);
+        String letters = word.toLowerCase().replaceAll("[^a-z]", "");
+        for (String prefix : SILENT_FIRST_LETTER_PREFIXES) {
+            if (letters.startsWith(prefix)) {
+                letters = letters.substring(1);
+                break;
+            }
+        }
+        if (letters.isEmpty()) {
+            return letters;
+        }
+
+        StringBuilder key = new StringBuilder().append(firstLetterClassOf(letters));
+        char previousCode = PHONETIC_CODES.charAt(letters.charAt(0) - 'a');
+        boolean isVowelKept = key.charAt(0) == 'a';
+        for (int i = 1; i < letters.length(); i++) {
+            char letter = letters.charAt(i);
+            char code = PHONETIC_CODES.charAt(letter - 'a');
+            if (code != '0' && code != previousCode) {
+                key.append(code);
+            } else if (isVowel(letter) && !isVowelKept) {
+                // "ai" and "ay" sound like the e of "Meyer" rather than the a of "Tan"
+                boolean isLongA = letter == 'a' && i + 1 < letters.length()
+                        && "iy".indexOf(letters.charAt(i + 1)) != -1;
+                key.append(isLongA ? 'e' : VOWEL_CLASSES.charAt(letter - 'a'));
+                isVowelKept = true;
+            }
+            // h and w do not separate consonants with the same code, but vowels do
+            if (code != '0' || !isSilentSeparator(letter)) {
+                previousCode = code;
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Returns the first letter of {@code letters}, as 'a' if it is a vowel, or as 'k' or 's' if it is a c that sounds
+     * like one.
+     */
+    private static char firstLetterClassOf(String letters) {
+        char first = letters.charAt(0);
+        char second = letters.length() > 1 ? letters.charAt(1) : ' ';
+        if ("aeiou".indexOf(first) != -1) {
+            return 'a';
+        } else if (first == 'q' || first == 'c' && "eihy".indexOf(second) == -1) {
+            return 'k';
+        } else if (first == 'c' && second != 'h') {
+            return 's';
+        }
+        return first;
+    }
+
+    private static boolean isVowel(char letter) {
+        return VOWEL_CLASSES.charAt(letter - 'a') != '-';
+    }
+
+    private static boolean isSilentSeparator(char letter) {
+        return letter == 'h' || letter == 'w';
+    }
+
+    /**
+     * Returns {@code c} with its case folded, so that chars differing only in case fold to the same char.
+     * Each char is folded on its own, so unlike {@link String#toLowerCase()}, a text keeps its length when folded and
+     * every substring of it folds to a substring of the folded text.
+     */
+    public static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns {@code text} with the case of every char folded by {@link #foldCase(char)}.
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = foldCase(text.charAt(i));
+        }
+        return new String(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
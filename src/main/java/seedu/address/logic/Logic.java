@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +27,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler of the errors from saving the address book, which happens in the background after
+     * {@link #execute(String)} returns. The handler is called with the error message on the thread that saves.
+     */
+    void setSaveErrorHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -63,4 +71,8 @@ public interface Logic {
     void resetNav();
     void beginNavigation(String txt);
     void save();
+    Optional<String> search(String query);
+    Optional<String> searchOlder(String query);
+    void resetSearch();
+    List<String> suggest(String prefix);
 }
@@ -1,9 +1,13 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,8 +21,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookWriter;
 import seedu.address.storage.CommandHistory;
-import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
@@ -32,40 +36,56 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
     private final CommandHistory commandHistory;
+    private final AddressBookWriter addressBookWriter;
+    // the version of the address book last given to the writer, which needs no saving until the address book changes
+    private long submittedAddressBookVersion;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the address book in the background
+     * with {@code addressBookWriter}. The caller owns the writer, and closes it once it is done with this.
      */
-    public LogicManager(Model model, Storage storage, CommandHistory commandHistory) {
+    public LogicManager(Model model, CommandHistory commandHistory, AddressBookWriter addressBookWriter) {
         this.model = model;
-        this.storage = storage;
         this.commandHistory = commandHistory;
+        this.addressBookWriter = addressBookWriter;
         addressBookParser = new AddressBookParser();
+        submittedAddressBookVersion = model.getAddressBookVersion();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         commandHistory.push(commandText);
-        commandHistory.save();
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // commands that only read or rearrange the list, such as list, find and sort, leave nothing to save,
+        // unless the last save failed
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion != submittedAddressBookVersion || addressBookWriter.hasLastWriteFailed()) {
+            addressBookWriter.submit(model.getAddressBook());
+            submittedAddressBookVersion = addressBookVersion;
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        addressBookWriter.setErrorHandler(error -> handler.accept(toErrorMessage(error)));
+    }
+
+    private static String toErrorMessage(IOException error) {
+        if (error instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, error.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, error.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -128,4 +148,20 @@ public class LogicManager implements Logic {
     public void save() {
         this.commandHistory.save();
     }
+    @Override
+    public Optional<String> search(String query) {
+        return this.commandHistory.search(query);
+    }
+    @Override
+    public Optional<String> searchOlder(String query) {
+        return this.commandHistory.searchOlder(query);
+    }
+    @Override
+    public void resetSearch() {
+        this.commandHistory.resetSearch();
+    }
+    @Override
+    public List<String> suggest(String prefix) {
+        return this.commandHistory.suggest(prefix);
+    }
 }
@@ -1,5 +1,8 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -12,4 +15,29 @@ public final class CommandHints {
         "add", "edit", "delete", "clear", "find", "list",
         "help", "exit", "addProfilePic", "filter", "sortByCloseness"
     );
+
+    /** The most suggestions shown at once. */
+    public static final int MAX_SUGGESTIONS = 8;
+
+    /**
+     * Returns the suggestions for {@code prefix}: the {@code pastCommands} suggested for it, in order, then the
+     * command words that start with it, ignoring case, with at most {@link #MAX_SUGGESTIONS} in all.
+     * The past commands only take the slots left by the matching command words, so that a history full of commands
+     * starting with one word cannot hide the other command words.
+     */
+    public static List<String> suggest(List<String> pastCommands, String prefix) {
+        requireNonNull(pastCommands);
+        requireNonNull(prefix);
+        String lowerCasePrefix = prefix.toLowerCase();
+        List<String> commandWords = COMMANDS.stream()
+                .filter(command -> command.toLowerCase().startsWith(lowerCasePrefix))
+                .toList();
+        int pastCommandSlots = Math.max(MAX_SUGGESTIONS - commandWords.size(), 0);
+        List<String> suggestions =
+                new ArrayList<>(pastCommands.subList(0, Math.min(pastCommandSlots, pastCommands.size())));
+        commandWords.stream()
+                .filter(command -> suggestions.stream().noneMatch(command::equalsIgnoreCase))
+                .forEach(suggestions::add);
+        return suggestions.subList(0, Math.min(MAX_SUGGESTIONS, suggestions.size()));
+    }
 }
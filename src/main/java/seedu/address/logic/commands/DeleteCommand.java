@@ -14,6 +14,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordPredicate;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -110,8 +111,8 @@ public class DeleteCommand extends Command {
     }
 
     private CommandResult executeByTags(Model model) throws CommandException {
-        List<Person> visible = model.getSortedPersonList();
-        List<Person> matches = collectPersonsByTags(visible, targetTags);
+        // look the tagged persons up from the tag index, so only they are checked against the displayed list
+        List<Person> matches = model.findShownPersons(new TagContainsKeywordPredicate(targetTags));
         if (matches.isEmpty()) {
             throw new CommandException(tagsNotFoundMessage(targetTags));
         }
@@ -119,25 +120,6 @@ public class DeleteCommand extends Command {
         return successListResult(matches);
     }
 
-    private static List<Person> collectPersonsByTags(List<Person> visible, Set<Tag> tags) {
-        List<Person> matches = new ArrayList<>();
-        for (Person p : visible) {
-            if (hasAnyTag(p, tags)) {
-                matches.add(p);
-            }
-        }
-        return matches;
-    }
-
-    private static boolean hasAnyTag(Person p, Set<Tag> tags) {
-        for (Tag t : tags) {
-            if (p.getTags().contains(t)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private static String tagsNotFoundMessage(Set<Tag> tags) {
         String joined = tags.stream().map(t -> t.tagName).collect(Collectors.joining(", "));
         return String.format(NO_PERSONS_FOUND_WITH_TAGS, joined);
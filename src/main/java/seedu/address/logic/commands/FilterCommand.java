@@ -2,36 +2,80 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 import seedu.address.logic.Messages;
+import seedu.address.model.IndexedPersonPredicate;
 import seedu.address.model.Model;
-import seedu.address.model.person.TagContainsKeywordPredicate;
 
 /**
- * Filters and lists persons in address book who have a tag matching the keyword.
+ * Filters and lists persons in address book who satisfy a filter expression, which combines tags,
+ * closeness ranges, name keywords and email domains with AND, OR and NOT.
  * Keyword matching is case-insensitive.
+ * Can instead show how many persons have an email at each domain, without changing the list.
  */
 public class FilterCommand extends Command {
     public static final String COMMAND_WORD = "filter";
 
+    public static final String DOMAIN_COUNTS_FLAG = "--domains";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters and lists all persons who have "
-            + "at least one of the specified tags (case-insensitive) \n"
-            + "Parameters: t/KEYWORD [t/MORE_KEYWORDS]... \n"
-            + "Example: " + COMMAND_WORD + " t/friends t/colleagues";
+            + "at least one of the specified tags (case-insensitive), "
+            + "or whose closeness is within the specified range, "
+            + "or whose name contains the specified keyword (case-insensitive), "
+            + "or whose email is at the specified domain (case-insensitive). "
+            + "Conditions can be combined with AND, OR, NOT and parentheses \n"
+            + "Parameters: t/KEYWORD [t/MORE_KEYWORDS]... or c/[=|>|>=|<|<=]CLOSENESS "
+            + "or n/KEYWORD [n/MORE_KEYWORDS]... or e/@DOMAIN [e/@MORE_DOMAINS]... \n"
+            + "Example: " + COMMAND_WORD + " t/friends t/colleagues\n"
+            + "Example: " + COMMAND_WORD + " c/>=4\n"
+            + "Example: " + COMMAND_WORD + " t/friends AND (c/>=4 OR n/alex) AND NOT t/colleagues\n"
+            + "Example: " + COMMAND_WORD + " e/@u.nus.edu\n"
+            + "Use " + COMMAND_WORD + " " + DOMAIN_COUNTS_FLAG + " to count the persons at each email domain.";
+
+    public static final String MESSAGE_DOMAIN_COUNTS = "Persons per email domain:\n%1$s";
 
-    private final TagContainsKeywordPredicate predicate;
+    public static final String MESSAGE_NO_DOMAINS = "There are no persons to count.";
 
-    public FilterCommand(TagContainsKeywordPredicate predicate) {
+    private final IndexedPersonPredicate predicate;
+
+    public FilterCommand(IndexedPersonPredicate predicate) {
         this.predicate = predicate;
     }
 
+    /**
+     * Creates a FilterCommand that shows the number of persons at each email domain, most persons first.
+     */
+    public static FilterCommand domainCounts() {
+        return new FilterCommand(null);
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        if (predicate == null) {
+            return new CommandResult(formatDomainCounts(model.getEmailDomainCounts()));
+        }
         model.updateFilteredPersonList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    private static String formatDomainCounts(Map<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return MESSAGE_NO_DOMAINS;
+        }
+        // the counts come in order of domain, and the sort is stable, so domains with equal counts stay in that order
+        String lines = counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .map(entry -> "@" + entry.getKey() + ": " + entry.getValue())
+                .collect(Collectors.joining("\n"));
+        return String.format(MESSAGE_DOMAIN_COUNTS, lines);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,7 +88,7 @@ public class FilterCommand extends Command {
         }
 
         FilterCommand otherFilterCommand = (FilterCommand) other;
-        return predicate.equals(otherFilterCommand.predicate);
+        return Objects.equals(predicate, otherFilterCommand.predicate);
     }
 
     @Override
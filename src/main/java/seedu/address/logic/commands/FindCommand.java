@@ -2,38 +2,108 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.model.IndexedPersonPredicate;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.RankedPersonsPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords,
+ * or whose phone, email or handle matches any of the argument values.
+ * Keyword matching is case-insensitive. A fuzzy search also finds names with typos, and ranks the persons found.
+ * A keyword marked as sounds-like matches the name words that sound like it.
+ * An address search instead lists the persons whose address is most relevant to the keywords, most relevant first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FUZZY_FLAG = "--fuzzy";
+
+    public static final String SOUNDS_LIKE_MARKER = "~";
+
+    /** Marks the digits of a phone number that are not given, e.g. {@code ...1234} for a number ending in 1234. */
+    public static final String PHONE_ELLIPSIS = "...";
+
+    /** The most persons an address search lists. */
+    public static final int ADDRESS_RESULT_LIMIT = 20;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Start a keyword with " + SOUNDS_LIKE_MARKER + " to find names with a word that sounds like it.\n"
+            + "Example: " + COMMAND_WORD + " " + SOUNDS_LIKE_MARKER + "muhammad\n"
+            + "Add " + FUZZY_FLAG + " before the keywords to also find names with typos, closest match first.\n"
+            + "Example: " + COMMAND_WORD + " " + FUZZY_FLAG + " alise\n"
+            + "Alternatively, finds the persons whose phone, email or handle is the given value, "
+            + "or starts with it if it is incomplete.\n"
+            + "Parameters: p/PHONE... or e/EMAIL... or h/HANDLE...\n"
+            + "Example: " + COMMAND_WORD + " p/91234567\n"
+            + "Start a phone number with " + PHONE_ELLIPSIS + " to find the numbers that end with its digits.\n"
+            + "Example: " + COMMAND_WORD + " p/" + PHONE_ELLIPSIS + "4567\n"
+            + "Alternatively, finds the " + ADDRESS_RESULT_LIMIT + " persons whose address best matches the keywords, "
+            + "best match first.\n"
+            + "Parameters: a/KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " a/clementi street";
+
+    private final IndexedPersonPredicate predicate;
+    private final Comparator<Person> ranking;
+    private final List<String> addressKeywords;
 
-    private final NameContainsKeywordsPredicate predicate;
+    public FindCommand(IndexedPersonPredicate predicate) {
+        this(predicate, null);
+    }
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    /**
+     * Creates a FindCommand that lists the persons matching {@code predicate} in the order of {@code ranking}.
+     * The current order of the list is kept if {@code ranking} is null.
+     */
+    public FindCommand(IndexedPersonPredicate predicate, Comparator<Person> ranking) {
+        this(predicate, ranking, null);
+    }
+
+    private FindCommand(IndexedPersonPredicate predicate, Comparator<Person> ranking, List<String> addressKeywords) {
         this.predicate = predicate;
+        this.ranking = ranking;
+        this.addressKeywords = addressKeywords;
+    }
+
+    /**
+     * Creates a FindCommand that lists the persons whose address is most relevant to {@code keywords},
+     * most relevant first.
+     */
+    public static FindCommand byAddress(List<String> keywords) {
+        requireNonNull(keywords);
+        return new FindCommand(null, null, List.copyOf(keywords));
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (addressKeywords != null) {
+            listByAddress(model);
+        } else if (ranking != null) {
+            model.updateFilteredPersonList(predicate, ranking);
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    private void listByAddress(Model model) {
+        RankedPersonsPredicate found =
+                new RankedPersonsPredicate(model.findPersonsByAddress(addressKeywords, ADDRESS_RESULT_LIMIT));
+        model.updateFilteredPersonList(found, found.getRanking());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -45,11 +115,18 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return Objects.equals(predicate, otherFindCommand.predicate)
+                && Objects.equals(ranking, otherFindCommand.ranking)
+                && Objects.equals(addressKeywords, otherFindCommand.addressKeywords);
     }
 
     @Override
     public String toString() {
+        if (addressKeywords != null) {
+            return new ToStringBuilder(this)
+                    .add("addressKeywords", addressKeywords)
+                    .toString();
+        }
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
                 .toString();
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 import java.util.Comparator;
 
 import seedu.address.model.Model;
+import seedu.address.model.person.ClosenessComparator;
 import seedu.address.model.person.Person;
 
 /**
@@ -41,12 +42,9 @@ public class SortByClosenessCommand extends Command {
     public SortByClosenessCommand(SortOrder sortOrder) {
         requireNonNull(sortOrder);
         this.sortOrder = sortOrder;
-        if (sortOrder == SortOrder.ASCENDING) {
-            this.comparator = Comparator.comparingInt(person -> person.getCloseness().closenessLevel);
-        } else {
-            this.comparator = Comparator.comparingInt((Person person) -> person.getCloseness().closenessLevel)
-                    .reversed();
-        }
+        this.comparator = sortOrder == SortOrder.ASCENDING
+                ? ClosenessComparator.ASCENDING
+                : ClosenessComparator.DESCENDING;
     }
 
     @Override
@@ -1,15 +1,7 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-
-import java.util.Collection;
-import java.util.Set;
-
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.TagContainsKeywordPredicate;
-import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FilterCommand object
@@ -18,31 +10,15 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns a FilterCommand object for execution.
+     * The arguments are a filter expression, see {@link FilterExpressionParser}, or the flag asking for the
+     * number of persons at each email domain.
      * @throws ParseException if the user input does not conform the expected format
      */
     @Override
     public FilterCommand parse(String args) throws ParseException {
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
-
-        // Cases where preamble is not empty and the prefix tag is not detected
-        if (!argumentMultimap.getPreamble().isEmpty()
-            || argumentMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
-        }
-
-        // This ensures no duplicate prefixes like n/ or p/ are present,
-        // although filter only uses t/. We leave it empty to check all.
-        argumentMultimap.verifyNoDuplicatePrefixesFor();
-
-        Collection<String> tagKeywords = argumentMultimap.getAllValues(PREFIX_TAG);
-
-        try {
-            Set<Tag> tagSet = ParserUtil.parseTags(tagKeywords);
-            return new FilterCommand(new TagContainsKeywordPredicate(tagSet));
-        } catch (ParseException pe) {
-            // Catch errors from parseTags (e.g., invalid tag name)
-            throw new ParseException(pe.getMessage(), pe);
+        if (args.trim().equals(FilterCommand.DOMAIN_COUNTS_FLAG)) {
+            return FilterCommand.domainCounts();
         }
+        return new FilterCommand(FilterExpressionParser.parse(args));
     }
 }
@@ -0,0 +1,220 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLOSENESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.person.AndPredicate;
+import seedu.address.model.person.EmailDomainPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NotPredicate;
+import seedu.address.model.person.OrPredicate;
+import seedu.address.model.person.TagContainsKeywordPredicate;
+
+/**
+ * Parses a filter expression such as {@code t/friends AND (c/>=4 OR n/alex) AND NOT t/colleagues} into an
+ * {@code IndexedPersonPredicate}.
+ * <pre>
+ * expression := and-term (OR and-term)*
+ * and-term   := factor (AND factor)*
+ * factor     := NOT factor | ( expression ) | t/TAG [t/TAG]... | n/KEYWORD [n/KEYWORD]... | c/RANGE
+ *               | e/@DOMAIN [e/@DOMAIN]...
+ * </pre>
+ * The operators are case-sensitive, so that a lower-case {@code and} can still be part of a name keyword.
+ * Consecutive tags, name keywords or email domains match any one of them, as in the earlier form of the command.
+ */
+public class FilterExpressionParser {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final String DOMAIN_MARKER = "@";
+    private static final Prefix[] TERM_PREFIXES = {PREFIX_TAG, PREFIX_CLOSENESS, PREFIX_NAME, PREFIX_EMAIL};
+
+    private final List<Token> tokens;
+    private int position;
+
+    private FilterExpressionParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses {@code expression} into the predicate it describes.
+     * @throws ParseException if the expression is malformed or any of its values is invalid
+     */
+    public static IndexedPersonPredicate parse(String expression) throws ParseException {
+        FilterExpressionParser parser = new FilterExpressionParser(tokenize(expression));
+        IndexedPersonPredicate predicate = parser.parseExpression();
+        if (parser.hasNext()) {
+            throw invalidFormat();
+        }
+        return predicate;
+    }
+
+    private IndexedPersonPredicate parseExpression() throws ParseException {
+        List<IndexedPersonPredicate> operands = new ArrayList<>();
+        operands.add(parseAndTerm());
+        while (nextIsOperator(OR)) {
+            position++;
+            operands.add(parseAndTerm());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrPredicate(operands);
+    }
+
+    private IndexedPersonPredicate parseAndTerm() throws ParseException {
+        List<IndexedPersonPredicate> operands = new ArrayList<>();
+        operands.add(parseFactor());
+        while (nextIsOperator(AND)) {
+            position++;
+            operands.add(parseFactor());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndPredicate(operands);
+    }
+
+    private IndexedPersonPredicate parseFactor() throws ParseException {
+        if (!hasNext()) {
+            throw invalidFormat();
+        }
+        Token token = tokens.get(position++);
+        if (token.isOperator(NOT)) {
+            return new NotPredicate(parseFactor());
+        }
+        if (token.isOperator(OPEN)) {
+            IndexedPersonPredicate predicate = parseExpression();
+            if (!nextIsOperator(CLOSE)) {
+                throw invalidFormat();
+            }
+            position++;
+            return predicate;
+        }
+        if (token.prefix == null) {
+            throw invalidFormat();
+        }
+        return parseTerms(token);
+    }
+
+    /**
+     * Parses {@code first} and the terms with the same prefix that directly follow it.
+     */
+    private IndexedPersonPredicate parseTerms(Token first) throws ParseException {
+        List<String> values = new ArrayList<>();
+        values.add(first.value);
+        while (hasNext() && tokens.get(position).prefix != null) {
+            Token next = tokens.get(position++);
+            if (!next.prefix.equals(first.prefix)) {
+                throw invalidFormat();
+            }
+            if (first.prefix.equals(PREFIX_CLOSENESS)) {
+                throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(PREFIX_CLOSENESS));
+            }
+            values.add(next.value);
+        }
+
+        if (first.prefix.equals(PREFIX_TAG)) {
+            return new TagContainsKeywordPredicate(ParserUtil.parseTags(values));
+        }
+        if (first.prefix.equals(PREFIX_CLOSENESS)) {
+            return ParserUtil.parseClosenessRange(first.value);
+        }
+        if (first.prefix.equals(PREFIX_EMAIL)) {
+            return new EmailDomainPredicate(parseDomains(values));
+        }
+        if (values.contains("")) {
+            throw invalidFormat();
+        }
+        return new NameContainsKeywordsPredicate(values);
+    }
+
+    /**
+     * Parses email domains, each written with or without the {@code @} in front.
+     */
+    private static List<String> parseDomains(List<String> values) throws ParseException {
+        List<String> domains = new ArrayList<>();
+        for (String value : values) {
+            String domain = value.startsWith(DOMAIN_MARKER) ? value.substring(DOMAIN_MARKER.length()) : value;
+            if (domain.isEmpty() || domain.contains(DOMAIN_MARKER) || domain.contains(" ")) {
+                throw invalidFormat();
+            }
+            domains.add(domain);
+        }
+        return domains;
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private boolean nextIsOperator(String operator) {
+        return hasNext() && tokens.get(position).isOperator(operator);
+    }
+
+    /**
+     * Splits {@code expression} into operators, parentheses and prefixed terms.
+     * The value of a term runs up to the next operator, parenthesis or prefix, and is trimmed.
+     */
+    private static List<Token> tokenize(String expression) throws ParseException {
+        String[] words = expression.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ")
+                .trim().split("\\s+");
+        List<Token> tokens = new ArrayList<>();
+        Token term = null;
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            Prefix prefix = prefixOf(word);
+            if (prefix != null) {
+                term = new Token(prefix, word.substring(prefix.getPrefix().length()));
+                tokens.add(term);
+            } else if (List.of(AND, OR, NOT, OPEN, CLOSE).contains(word)) {
+                term = null;
+                tokens.add(new Token(null, word));
+            } else if (term != null) {
+                term.value = (term.value + " " + word).trim();
+            } else {
+                throw invalidFormat();
+            }
+        }
+        return tokens;
+    }
+
+    private static Prefix prefixOf(String word) {
+        for (Prefix prefix : TERM_PREFIXES) {
+            if (word.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * An operator or parenthesis, which has no prefix, or a term made of a prefix and its value.
+     */
+    private static class Token {
+        private final Prefix prefix;
+        private String value;
+
+        Token(Prefix prefix, String value) {
+            this.prefix = prefix;
+            this.value = value;
+        }
+
+        boolean isOperator(String operator) {
+            return prefix == null && value.equals(operator);
+        }
+    }
+}
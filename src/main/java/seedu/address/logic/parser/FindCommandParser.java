@@ -1,25 +1,134 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HANDLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.IdentityFieldMatchesPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameDistanceComparator;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.NameSoundsLikePredicate;
+import seedu.address.model.person.OrPredicate;
+import seedu.address.model.person.PhoneEndsWithPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    // some keyboards and editors turn three dots into a single ellipsis character
+    private static final String UNICODE_ELLIPSIS = "\u2026";
+
+    private static final Map<Prefix, IdentityField> FIELDS_BY_PREFIX = Map.of(
+            PREFIX_PHONE, IdentityField.PHONE,
+            PREFIX_EMAIL, IdentityField.EMAIL,
+            PREFIX_HANDLE, IdentityField.HANDLE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_HANDLE, PREFIX_ADDRESS);
+        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
+            return parseAddressKeywords(argMultimap);
+        }
+
+        List<Prefix> fieldPrefixes = Stream.of(PREFIX_PHONE, PREFIX_EMAIL, PREFIX_HANDLE)
+                .filter(prefix -> argMultimap.getValue(prefix).isPresent())
+                .collect(Collectors.toList());
+
+        if (fieldPrefixes.isEmpty()) {
+            return parseNameKeywords(argMultimap.getPreamble());
+        }
+
+        // a field search looks at one field only
+        if (!argMultimap.getPreamble().isEmpty() || fieldPrefixes.size() > 1) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        Prefix prefix = fieldPrefixes.get(0);
+        List<String> values = argMultimap.getAllValues(prefix);
+        if (values.stream().anyMatch(String::isEmpty)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        if (prefix.equals(PREFIX_PHONE)) {
+            return parsePhoneValues(values);
+        }
+        return new FindCommand(new IdentityFieldMatchesPredicate(FIELDS_BY_PREFIX.get(prefix), values));
+    }
+
+    /**
+     * Parses phone numbers, some of which may be partial: {@code ...1234} for the numbers ending in 1234, and
+     * {@code 9123...} (or just {@code 9123}) for the numbers starting with 9123.
+     */
+    private static FindCommand parsePhoneValues(List<String> values) throws ParseException {
+        List<String> leadingValues = new ArrayList<>();
+        List<String> trailingDigits = new ArrayList<>();
+        for (String value : values) {
+            String phone = value.replace(UNICODE_ELLIPSIS, FindCommand.PHONE_ELLIPSIS);
+            boolean isTrailing = phone.startsWith(FindCommand.PHONE_ELLIPSIS);
+            boolean isLeading = phone.endsWith(FindCommand.PHONE_ELLIPSIS);
+            if (isTrailing && isLeading) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            if (isTrailing) {
+                trailingDigits.add(phone.substring(FindCommand.PHONE_ELLIPSIS.length()));
+            } else if (isLeading) {
+                leadingValues.add(phone.substring(0, phone.length() - FindCommand.PHONE_ELLIPSIS.length()));
+            } else {
+                leadingValues.add(phone);
+            }
+        }
+        if (leadingValues.contains("") || trailingDigits.contains("")) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        IdentityFieldMatchesPredicate leading = new IdentityFieldMatchesPredicate(IdentityField.PHONE, leadingValues);
+        if (trailingDigits.isEmpty()) {
+            return new FindCommand(leading);
+        }
+        PhoneEndsWithPredicate trailing = new PhoneEndsWithPredicate(trailingDigits);
+        if (leadingValues.isEmpty()) {
+            return new FindCommand(trailing);
+        }
+        return new FindCommand(new OrPredicate(List.of(leading, trailing)));
+    }
+
+    /**
+     * Parses an address search, whose keywords are the words of all the {@code a/} values.
+     */
+    private static FindCommand parseAddressKeywords(ArgumentMultimap argMultimap) throws ParseException {
+        boolean hasOtherPrefix = Stream.of(PREFIX_PHONE, PREFIX_EMAIL, PREFIX_HANDLE)
+                .anyMatch(prefix -> argMultimap.getValue(prefix).isPresent());
+        String keywords = String.join(" ", argMultimap.getAllValues(PREFIX_ADDRESS)).trim();
+        if (!argMultimap.getPreamble().isEmpty() || hasOtherPrefix || keywords.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return FindCommand.byAddress(Arrays.asList(keywords.split("\\s+")));
+    }
+
+    private static FindCommand parseNameKeywords(String trimmedArgs) throws ParseException {
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -27,7 +136,38 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (nameKeywords[0].equals(FindCommand.FUZZY_FLAG)) {
+            if (nameKeywords.length == 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(
+                    Arrays.asList(nameKeywords).subList(1, nameKeywords.length));
+            return new FindCommand(predicate, new NameDistanceComparator(predicate));
+        }
+
+        List<String> soundsLikeKeywords = new ArrayList<>();
+        List<String> substringKeywords = new ArrayList<>();
+        for (String keyword : nameKeywords) {
+            if (!keyword.startsWith(FindCommand.SOUNDS_LIKE_MARKER)) {
+                substringKeywords.add(keyword);
+            } else if (keyword.length() > FindCommand.SOUNDS_LIKE_MARKER.length()) {
+                soundsLikeKeywords.add(keyword.substring(FindCommand.SOUNDS_LIKE_MARKER.length()));
+            } else {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+        }
+
+        if (soundsLikeKeywords.isEmpty()) {
+            return new FindCommand(new NameContainsKeywordsPredicate(substringKeywords));
+        }
+        NameSoundsLikePredicate soundsLike = new NameSoundsLikePredicate(soundsLikeKeywords);
+        if (substringKeywords.isEmpty()) {
+            return new FindCommand(soundsLike);
+        }
+        return new FindCommand(new OrPredicate(
+                List.of(new NameContainsKeywordsPredicate(substringKeywords), soundsLike)));
     }
 
 }
@@ -10,6 +10,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Closeness;
+import seedu.address.model.person.ClosenessRangePredicate;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Handle;
 import seedu.address.model.person.Name;
@@ -197,4 +198,18 @@ public class ParserUtil {
         }
         return new Closeness(trimmedCloseness);
     }
+
+    /**
+     * Parses a {@code String range} such as {@code >=4} into a {@code ClosenessRangePredicate}
+     * Leading and trailing whitespaces will be trimmed
+     * @throws ParseException if the given {@code String range} is invalid
+     */
+    public static ClosenessRangePredicate parseClosenessRange(String range) throws ParseException {
+        requireNonNull(range);
+        String trimmedRange = range.trim();
+        if (!ClosenessRangePredicate.isValidClosenessRange(trimmedRange)) {
+            throw new ParseException(ClosenessRangePredicate.MESSAGE_CONSTRAINTS);
+        }
+        return ClosenessRangePredicate.of(trimmedRange);
+    }
 }
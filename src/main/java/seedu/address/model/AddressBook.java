@@ -2,20 +2,62 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.AddressTextIndex;
+import seedu.address.model.index.ClosenessIndex;
+import seedu.address.model.index.CompressedBitmap;
+import seedu.address.model.index.EmailDomainIndex;
+import seedu.address.model.index.IdentityPrefixIndex;
+import seedu.address.model.index.IdentityValueIndex;
+import seedu.address.model.index.NameBkTree;
+import seedu.address.model.index.NameTrigramIndex;
+import seedu.address.model.index.PersonIndex;
+import seedu.address.model.index.PersonOrdinals;
+import seedu.address.model.index.PhoneDigitTrie;
+import seedu.address.model.index.PhoneticIndex;
+import seedu.address.model.index.TagIndex;
+import seedu.address.model.person.Closeness;
+import seedu.address.model.person.IdentityField;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Secondary indexes over the persons are updated on every change to the person list.
+ * Each person is numbered with a dense ordinal, and most indexes keep their posting lists as bitmaps of ordinals.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long version;
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final TagIndex tagIndex = new TagIndex(ordinals);
+    private final ClosenessIndex closenessIndex = new ClosenessIndex(ordinals);
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex(ordinals);
+    private final NameBkTree nameTree = new NameBkTree(ordinals);
+    private final PhoneticIndex phoneticIndex = new PhoneticIndex(ordinals);
+    private final AddressTextIndex addressIndex = new AddressTextIndex(ordinals);
+    private final PhoneDigitTrie phonePrefixTrie = new PhoneDigitTrie(ordinals, false);
+    private final PhoneDigitTrie phoneSuffixTrie = new PhoneDigitTrie(ordinals, true);
+    private final EmailDomainIndex emailDomainIndex = new EmailDomainIndex(ordinals);
+    private final Map<IdentityField, IdentityValueIndex> valueIndexes = new EnumMap<>(IdentityField.class);
+    private final Map<IdentityField, IdentityPrefixIndex> prefixIndexes = new EnumMap<>(IdentityField.class);
+    // ordinals come first, as the indexes after it look up the ordinals of the persons they are given
+    private final List<PersonIndex> indexes =
+            new ArrayList<>(List.of(ordinals, tagIndex, closenessIndex, nameIndex, nameTree, phoneticIndex,
+                    addressIndex, phonePrefixTrie, phoneSuffixTrie, emailDomainIndex));
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,7 +70,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
     }
 
-    public AddressBook() {}
+    /**
+     * Creates an empty AddressBook.
+     */
+    public AddressBook() {
+        for (IdentityField field : IdentityField.values()) {
+            IdentityValueIndex valueIndex = new IdentityValueIndex(field);
+            valueIndexes.put(field, valueIndex);
+            indexes.add(valueIndex);
+        }
+        // phone numbers are looked up by prefix from the phone digit trie instead
+        for (IdentityField field : List.of(IdentityField.EMAIL, IdentityField.HANDLE)) {
+            IdentityPrefixIndex prefixIndex = new IdentityPrefixIndex(field);
+            prefixIndexes.put(field, prefixIndex);
+            indexes.add(prefixIndex);
+        }
+    }
 
     /**
      * Creates an AddressBook using the Persons in the {@code toBeCopied}
@@ -46,6 +103,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        rebuildIndexes();
+        version++;
     }
 
     /**
@@ -67,6 +126,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the position of {@code person}, the very instance in the address book, in the person list, or -1 if it
+     * is not in the address book.
+     */
+    public int indexOf(Person person) {
+        return persons.indexOf(person);
+    }
+
     /**
      * Returns true if toAdd does not have duplicates in the existing list, besides clashing with exclude
      */
@@ -81,6 +148,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        addToIndexes(p);
+        version++;
     }
 
     /**
@@ -92,6 +161,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        removeFromIndexes(target);
+        addToIndexes(editedPerson);
+        version++;
     }
 
     /**
@@ -100,6 +172,220 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        removeFromIndexes(key);
+        version++;
+    }
+
+    /**
+     * Returns the number of changes made to the persons of this address book so far.
+     * Two equal versions of the same address book mean that it has not changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    //// index lookups
+
+    /**
+     * Returns the persons that have any of the given {@code tags}.
+     */
+    public Set<Person> getPersonsWithAnyTag(Set<Tag> tags) {
+        return toPersons(getOrdinalsWithAnyTag(tags));
+    }
+
+    /**
+     * Returns the ordinals of the persons that have any of the given {@code tags}.
+     */
+    public CompressedBitmap getOrdinalsWithAnyTag(Set<Tag> tags) {
+        requireNonNull(tags);
+        return tagIndex.getOrdinalsWithAny(tags);
+    }
+
+    /**
+     * Returns the persons whose {@code field} is exactly {@code value}, ignoring case.
+     */
+    public Set<Person> getPersonsWithValue(IdentityField field, String value) {
+        requireNonNull(field);
+        return valueIndexes.get(field).getPersons(value);
+    }
+
+    /**
+     * Returns the persons whose {@code field} starts with {@code prefix}, ignoring case.
+     */
+    public Set<Person> getPersonsWithPrefix(IdentityField field, String prefix) {
+        requireNonNull(field);
+        if (field == IdentityField.PHONE) {
+            return toPersons(phonePrefixTrie.getOrdinalsMatching(prefix));
+        }
+        return prefixIndexes.get(field).getPersons(prefix);
+    }
+
+    /**
+     * Returns the persons whose phone number ends with any of the {@code digits}.
+     */
+    public Set<Person> getPersonsWithPhoneEndingWithAny(Collection<String> digits) {
+        return toPersons(getOrdinalsWithPhoneEndingWithAny(digits));
+    }
+
+    /**
+     * Returns the ordinals of the persons whose phone number ends with any of the {@code digits}.
+     */
+    public CompressedBitmap getOrdinalsWithPhoneEndingWithAny(Collection<String> digits) {
+        requireNonNull(digits);
+        CompressedBitmap matches = new CompressedBitmap();
+        for (String suffix : digits) {
+            matches = matches.or(phoneSuffixTrie.getOrdinalsMatching(suffix));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose email is at any of the {@code domains}, ignoring case.
+     */
+    public Set<Person> getPersonsWithEmailAtAny(Collection<String> domains) {
+        return toPersons(getOrdinalsWithEmailAtAny(domains));
+    }
+
+    /**
+     * Returns the ordinals of the persons whose email is at any of the {@code domains}, ignoring case.
+     */
+    public CompressedBitmap getOrdinalsWithEmailAtAny(Collection<String> domains) {
+        return emailDomainIndex.getOrdinalsAtAny(domains);
+    }
+
+    /**
+     * Returns the number of persons whose email is at each domain, in order of domain.
+     */
+    public Map<String, Integer> getEmailDomainCounts() {
+        return emailDomainIndex.getCounts();
+    }
+
+    /**
+     * Returns the persons whose name contains any of the {@code keywords}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameContainingAny(Collection<String> keywords) {
+        return toPersons(getOrdinalsWithNameContainingAny(keywords));
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name contains any of the {@code keywords}, ignoring case.
+     * Only the candidates from the name index are checked, and each candidate is checked against all the keywords in
+     * one pass. An empty keyword is contained in every name.
+     */
+    public CompressedBitmap getOrdinalsWithNameContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        if (keywords.contains("")) {
+            return ordinals.complementOf(new CompressedBitmap());
+        }
+        CompressedBitmap candidates = new CompressedBitmap();
+        for (String keyword : keywords) {
+            candidates = candidates.or(nameIndex.getCandidates(keyword));
+        }
+
+        KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+        CompressedBitmap matches = new CompressedBitmap();
+        candidates.forEach(ordinal -> {
+            if (matcher.matchesAnyIn(ordinals.getPerson(ordinal).getName().fullName)) {
+                matches.add(ordinal);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name has a word within edit distance {@code maxDistance} of
+     * {@code lowerCaseWord}, ignoring case.
+     */
+    public CompressedBitmap getOrdinalsWithNameWordNear(String lowerCaseWord, int maxDistance) {
+        CompressedBitmap matches = new CompressedBitmap();
+        for (NameBkTree.TokenMatch match : nameTree.search(lowerCaseWord, maxDistance)) {
+            matches = matches.or(match.getOrdinals());
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name has a word that sounds like {@code word}.
+     */
+    public CompressedBitmap getOrdinalsWithNameSoundingLike(String word) {
+        return phoneticIndex.getOrdinalsSoundingLike(word);
+    }
+
+    /**
+     * Returns the {@code limit} persons whose address is most relevant to {@code keywords}, most relevant first.
+     * Relevance is scored with BM25 over the tokens of the addresses, see {@link AddressTextIndex}.
+     */
+    public List<Person> getPersonsWithAddressRelevantTo(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        List<String> queryTokens = keywords.stream()
+                .flatMap(keyword -> AddressTextIndex.tokenize(keyword).stream())
+                .collect(Collectors.toList());
+        return addressIndex.search(queryTokens, limit).stream()
+                .map(ordinals::getPerson)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the persons whose closeness level is from {@code minLevel} to {@code maxLevel} inclusive.
+     */
+    public Set<Person> getPersonsWithClosenessBetween(int minLevel, int maxLevel) {
+        return toPersons(getOrdinalsWithClosenessBetween(minLevel, maxLevel));
+    }
+
+    /**
+     * Returns the ordinals of the persons whose closeness level is from {@code minLevel} to {@code maxLevel}
+     * inclusive.
+     */
+    public CompressedBitmap getOrdinalsWithClosenessBetween(int minLevel, int maxLevel) {
+        return closenessIndex.getOrdinalsBetween(minLevel, maxLevel);
+    }
+
+    /**
+     * Returns the ordinals of the persons that are not numbered by {@code ordinals}.
+     */
+    public CompressedBitmap getOrdinalsNotIn(CompressedBitmap ordinals) {
+        return this.ordinals.complementOf(ordinals);
+    }
+
+    /**
+     * Returns the ordinals of {@code persons}, which must all be in the address book.
+     */
+    public CompressedBitmap toOrdinals(Collection<Person> persons) {
+        return ordinals.toOrdinals(persons);
+    }
+
+    /**
+     * Returns the persons of the address book numbered by {@code ordinals}.
+     */
+    public Set<Person> toPersons(CompressedBitmap ordinals) {
+        return this.ordinals.toPersons(ordinals);
+    }
+
+    /**
+     * Adds {@code person} to every index, in order.
+     */
+    private void addToIndexes(Person person) {
+        indexes.forEach(index -> index.add(person));
+    }
+
+    /**
+     * Removes {@code person} from every index, in reverse order, so that the ordinal of the person is still known to
+     * the indexes that are keyed by it.
+     */
+    private void removeFromIndexes(Person person) {
+        for (int i = indexes.size() - 1; i >= 0; i--) {
+            indexes.get(i).remove(person);
+        }
+    }
+
+    /**
+     * Rebuilds every index from the current person list.
+     */
+    private void rebuildIndexes() {
+        for (PersonIndex index : indexes) {
+            index.clear();
+            persons.forEach(index::add);
+        }
     }
 
     //// util methods
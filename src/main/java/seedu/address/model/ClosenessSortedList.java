@@ -0,0 +1,159 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Closeness;
+import seedu.address.model.person.ClosenessComparator;
+import seedu.address.model.person.Person;
+
+/**
+ * Wraps an {@code ObservableList} of persons and presents it ordered by a {@code ClosenessComparator}, or in the
+ * order of the wrapped list if there is no comparator.
+ * The order is computed with a stable counting sort over the closeness levels, which takes linear time.
+ * Persons that are not added, removed or replaced keep their relative order across changes to the wrapped list,
+ * so such changes are passed on as the individual additions and removals.
+ */
+public class ClosenessSortedList extends TransformationList<Person, Person> {
+
+    private ClosenessComparator comparator; // null keeps the order of the source list
+    private Person[] sorted = new Person[0];
+    private int[] viewToSource = new int[0];
+    private int[] sourceToView = new int[0];
+
+    /**
+     * Creates a list presenting {@code source} in its own order until a comparator is set.
+     */
+    public ClosenessSortedList(ObservableList<Person> source) {
+        super(source);
+        sort();
+    }
+
+    public ClosenessComparator getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Orders this list by {@code comparator}, or by the source list if {@code comparator} is null.
+     */
+    public void setComparator(ClosenessComparator comparator) {
+        if (this.comparator == comparator) {
+            return;
+        }
+        int[] oldViewToSource = viewToSource;
+        this.comparator = comparator;
+        sort();
+        if (sorted.length == 0) {
+            return;
+        }
+
+        int[] permutation = new int[oldViewToSource.length];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = sourceToView[oldViewToSource[i]];
+        }
+        beginChange();
+        nextPermutation(0, permutation.length, permutation);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Person> added = Collections.newSetFromMap(new IdentityHashMap<>());
+        boolean wasPermutated = false;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                wasPermutated = true;
+            } else {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        }
+
+        Person[] oldSorted = sorted;
+        sort();
+
+        beginChange();
+        if (wasPermutated || removed.size() >= oldSorted.length || added.size() >= sorted.length) {
+            if (oldSorted.length > 0) {
+                nextRemove(0, Arrays.asList(oldSorted));
+            }
+            if (sorted.length > 0) {
+                nextAdd(0, sorted.length);
+            }
+        } else {
+            // removals from the back first, so that the indexes of the remaining removals stay valid
+            for (int i = oldSorted.length - 1; i >= 0; i--) {
+                if (removed.contains(oldSorted[i])) {
+                    nextRemove(i, oldSorted[i]);
+                }
+            }
+            for (int i = 0; i < sorted.length; i++) {
+                if (added.contains(sorted[i])) {
+                    nextAdd(i, i + 1);
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Recomputes the order of this list from the source list.
+     */
+    private void sort() {
+        List<? extends Person> source = getSource();
+        int size = source.size();
+        viewToSource = new int[size];
+        if (comparator == null) {
+            Arrays.setAll(viewToSource, i -> i);
+        } else {
+            // starts[r] is where the next person with rank r goes, once the counts have been summed up
+            int[] starts = new int[Closeness.LEVEL_COUNT + 1];
+            for (Person person : source) {
+                starts[comparator.getRank(person) + 1]++;
+            }
+            for (int rank = 1; rank < starts.length; rank++) {
+                starts[rank] += starts[rank - 1];
+            }
+            for (int i = 0; i < size; i++) {
+                viewToSource[starts[comparator.getRank(source.get(i))]++] = i;
+            }
+        }
+
+        sorted = new Person[size];
+        sourceToView = new int[size];
+        for (int viewIndex = 0; viewIndex < size; viewIndex++) {
+            sorted[viewIndex] = source.get(viewToSource[viewIndex]);
+            sourceToView[viewToSource[viewIndex]] = viewIndex;
+        }
+    }
+
+    @Override
+    public Person get(int index) {
+        if (index < 0 || index >= sorted.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return sorted[index];
+    }
+
+    @Override
+    public int size() {
+        return sorted.length;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return viewToSource[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return sourceToView[index];
+    }
+}
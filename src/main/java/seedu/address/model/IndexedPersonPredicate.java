@@ -0,0 +1,29 @@
+package seedu.address.model;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.index.CompressedBitmap;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} whose matches can be looked up from the indexes of an {@code AddressBook},
+ * so that the address book does not have to be scanned to find them.
+ * {@link #findMatches(AddressBook)} must return exactly the persons of the address book for which
+ * {@link #test(Object)} holds.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code addressBook} that satisfy this predicate.
+     */
+    Set<Person> findMatches(AddressBook addressBook);
+
+    /**
+     * Returns the ordinals of the persons in {@code addressBook} that satisfy this predicate.
+     * Predicates whose index is keyed by ordinal should override this to skip looking up the persons.
+     */
+    default CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        return addressBook.toOrdinals(findMatches(addressBook));
+    }
+}
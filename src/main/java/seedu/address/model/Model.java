@@ -2,6 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -53,6 +56,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book, which changes whenever its persons change, e.g. so that it is only
+     * saved when it has changed.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -82,15 +91,48 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons in the address book that satisfy {@code predicate}, looked up from the address book's
+     * indexes instead of by testing every person.
+     */
+    Set<Person> findPersons(IndexedPersonPredicate predicate);
+
+    /**
+     * Returns at most {@code limit} persons in the address book whose address is relevant to {@code keywords},
+     * most relevant first.
+     */
+    List<Person> findPersonsByAddress(List<String> keywords, int limit);
+
+    /**
+     * Returns the number of persons in the address book whose email is at each domain, in order of domain.
+     * Domains that no person's email is at are left out.
+     */
+    Map<String, Integer> getEmailDomainCounts();
+
+    /**
+     * Returns the persons matching {@code predicate} that are shown in the sorted person list, in the order they are
+     * shown, without going through the persons that are not matches.
+     */
+    List<Person> findShownPersons(IndexedPersonPredicate predicate);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * If {@code predicate} is an {@code IndexedPersonPredicate}, its matches are looked up from the indexes once and
+     * the list is filtered by those matches.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the sorted
+     * person list by {@code ranking} until the filter is next updated, when the order before it is restored.
+     * @throws NullPointerException if {@code predicate} or {@code ranking} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> ranking);
+
     /**
      * Returns an unmodifiable view of the sorted person list.
      * This is the list that should be displayed to the user.
@@ -99,6 +141,7 @@ public interface Model {
 
     /**
      * Updates the comparator of the sorted person list to sort by the given {@code comparator}.
+     * A {@code ClosenessComparator} is applied with a counting sort over the closeness levels instead.
      * @param comparator The comparator to sort the list with. Use null for default order.
      */
     void updateSortComparator(Comparator<Person> comparator);
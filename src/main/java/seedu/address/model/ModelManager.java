@@ -4,7 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,6 +19,7 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.ClosenessComparator;
 import seedu.address.model.person.Person;
 
 /**
@@ -23,8 +30,12 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final ClosenessSortedList closenessSortedPersons;
     private final FilteredList<Person> filteredPersons;
     private final SortedList<Person> sortedPersons;
+    private IndexedFilter indexedFilter; // null when the current filter is not looked up from the indexes
+    private Comparator<Person> sortComparator; // the order set by the user, restored when a ranked filter is replaced
+    private boolean isRanked;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,7 +47,8 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        closenessSortedPersons = new ClosenessSortedList(this.addressBook.getPersonList());
+        filteredPersons = new FilteredList<>(closenessSortedPersons);
         sortedPersons = new SortedList<>(filteredPersons);
     }
 
@@ -84,6 +96,9 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        if (indexedFilter != null) {
+            updateFilteredPersonList(indexedFilter.predicate);
+        }
     }
 
     @Override
@@ -91,6 +106,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -117,9 +137,30 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        if (indexedFilter != null) {
+            // must happen before the list changes, as the filtered list re-tests the edited person straight away
+            indexedFilter.admitIfMatching(editedPerson);
+        }
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Set<Person> findPersons(IndexedPersonPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.findMatches(addressBook);
+    }
+
+    @Override
+    public List<Person> findPersonsByAddress(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return addressBook.getPersonsWithAddressRelevantTo(keywords, limit);
+    }
+
+    @Override
+    public Map<String, Integer> getEmailDomainCounts() {
+        return addressBook.getEmailDomainCounts();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -131,10 +172,56 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public List<Person> findShownPersons(IndexedPersonPredicate predicate) {
+        requireNonNull(predicate);
+        Predicate<? super Person> filter = filteredPersons.getPredicate();
+        List<Person> shown = new ArrayList<>();
+        for (Person person : predicate.findMatches(addressBook)) {
+            if (filter == null || filter.test(person)) {
+                shown.add(person);
+            }
+        }
+
+        // the order the sorted list shows them in: by its comparator, then by closeness, then as in the address book
+        Comparator<Person> shownOrder = Comparator.comparingInt(addressBook::indexOf);
+        if (closenessSortedPersons.getComparator() != null) {
+            shownOrder = closenessSortedPersons.getComparator().thenComparing(shownOrder);
+        }
+        Comparator<? super Person> sortComparator = sortedPersons.getComparator();
+        if (sortComparator != null) {
+            shownOrder = ((Comparator<Person>) sortComparator::compare).thenComparing(shownOrder);
+        }
+        shown.sort(shownOrder);
+        return shown;
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (isRanked) {
+            isRanked = false;
+            sortedPersons.setComparator(sortComparator);
+        }
+        setFilter(predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> ranking) {
+        requireAllNonNull(predicate, ranking);
+        isRanked = true;
+        sortedPersons.setComparator(ranking);
+        setFilter(predicate);
+    }
+
+    private void setFilter(Predicate<Person> predicate) {
+        if (predicate instanceof IndexedPersonPredicate) {
+            indexedFilter = new IndexedFilter((IndexedPersonPredicate) predicate, addressBook);
+            filteredPersons.setPredicate(indexedFilter);
+        } else {
+            indexedFilter = null;
+            filteredPersons.setPredicate(predicate);
+        }
     }
 
     //=========== Sorted Person List Accessors ===============================================================
@@ -146,7 +233,17 @@ public class ModelManager implements Model {
 
     @Override
     public void updateSortComparator(Comparator<Person> comparator) {
-        sortedPersons.setComparator(comparator);
+        isRanked = false;
+        // closeness is ordered ahead of the filter, so refiltering does not sort again
+        if (comparator instanceof ClosenessComparator) {
+            sortComparator = null;
+            sortedPersons.setComparator(null);
+            closenessSortedPersons.setComparator((ClosenessComparator) comparator);
+        } else {
+            closenessSortedPersons.setComparator(null);
+            sortComparator = comparator;
+            sortedPersons.setComparator(comparator);
+        }
     }
 
     @Override
@@ -165,4 +262,32 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons)
                 && sortedPersons.equals(otherModelManager.sortedPersons);
     }
+
+    /**
+     * Filters by the matches of an {@code IndexedPersonPredicate}, looked up from the indexes once, so that the
+     * filtered list only needs an identity hash lookup per person when it refilters, rather than hashing every field
+     * of the person.
+     * A person that replaces another one later on is checked against the predicate itself.
+     */
+    private static class IndexedFilter implements Predicate<Person> {
+        private final IndexedPersonPredicate predicate;
+        private final Set<Person> matches;
+
+        IndexedFilter(IndexedPersonPredicate predicate, AddressBook addressBook) {
+            this.predicate = predicate;
+            this.matches = Collections.newSetFromMap(new IdentityHashMap<>());
+            matches.addAll(predicate.findMatches(addressBook));
+        }
+
+        void admitIfMatching(Person person) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matches.contains(person);
+        }
+    }
 }
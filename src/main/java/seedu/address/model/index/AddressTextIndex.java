@@ -0,0 +1,146 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each token (run of letters and digits) of the lower-cased addresses to the ordinals of the
+ * persons whose address has it, with how often it occurs there, so that addresses can be ranked against a query with
+ * the Okapi BM25 scoring function.
+ * A token that few addresses have counts for more than a common one such as "street", and matches in short addresses
+ * count for more than the same matches in long ones.
+ */
+public class AddressTextIndex implements PersonIndex {
+
+    // the usual BM25 parameters: how quickly repeated tokens stop adding to the score, and how much to favour
+    // short addresses
+    static final double TERM_SATURATION = 1.2;
+    static final double LENGTH_NORMALISATION = 0.75;
+
+    private final PersonOrdinals ordinals;
+    private final Map<String, Map<Integer, Integer>> frequenciesByToken = new HashMap<>();
+    private final Map<Integer, Integer> lengthsByOrdinal = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Creates an empty index that numbers persons by {@code ordinals}.
+     */
+    public AddressTextIndex(PersonOrdinals ordinals) {
+        this.ordinals = requireNonNull(ordinals);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        List<String> tokens = tokenize(person.getAddress().value);
+        for (String token : tokens) {
+            frequenciesByToken.computeIfAbsent(token, unused -> new HashMap<>()).merge(ordinal, 1, Integer::sum);
+        }
+        lengthsByOrdinal.put(ordinal, tokens.size());
+        totalLength += tokens.size();
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (String token : new LinkedHashSet<>(tokenize(person.getAddress().value))) {
+            Map<Integer, Integer> frequencies = frequenciesByToken.get(token);
+            if (frequencies == null) {
+                continue;
+            }
+            frequencies.remove(ordinal);
+            if (frequencies.isEmpty()) {
+                frequenciesByToken.remove(token);
+            }
+        }
+        Integer length = lengthsByOrdinal.remove(ordinal);
+        totalLength -= length == null ? 0 : length;
+    }
+
+    @Override
+    public void clear() {
+        frequenciesByToken.clear();
+        lengthsByOrdinal.clear();
+        totalLength = 0;
+    }
+
+    /**
+     * Returns the ordinals of the {@code limit} persons whose address is most relevant to {@code queryTokens},
+     * most relevant first. Persons whose address has none of the tokens are left out.
+     * Only the best {@code limit} matches are kept while scoring, in a heap, so the other matches are never sorted.
+     */
+    public List<Integer> search(Collection<String> queryTokens, int limit) {
+        requireNonNull(queryTokens);
+        if (limit <= 0 || lengthsByOrdinal.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Double> scores = new HashMap<>();
+        double averageLength = (double) totalLength / lengthsByOrdinal.size();
+        for (String token : new LinkedHashSet<>(queryTokens)) {
+            Map<Integer, Integer> frequencies = frequenciesByToken.getOrDefault(token, Collections.emptyMap());
+            double idf = inverseDocumentFrequency(frequencies.size());
+            for (Map.Entry<Integer, Integer> entry : frequencies.entrySet()) {
+                double frequency = entry.getValue();
+                double lengthRatio = lengthsByOrdinal.get(entry.getKey()) / averageLength;
+                double score = idf * frequency * (TERM_SATURATION + 1) / (frequency + TERM_SATURATION
+                        * (1 - LENGTH_NORMALISATION + LENGTH_NORMALISATION * lengthRatio));
+                scores.merge(entry.getKey(), score, Double::sum);
+            }
+        }
+
+        // the worst of the best matches so far is at the head, ready to be replaced
+        PriorityQueue<Map.Entry<Integer, Double>> best = new PriorityQueue<>(limit, AddressTextIndex::compareRelevance);
+        for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (compareRelevance(entry, best.peek()) > 0) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    /**
+     * Returns the lower-cased tokens of {@code text}, in order.
+     */
+    public static List<String> tokenize(String text) {
+        return Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private double inverseDocumentFrequency(int matchCount) {
+        int count = lengthsByOrdinal.size();
+        return Math.log(1 + (count - matchCount + 0.5) / (matchCount + 0.5));
+    }
+
+    /**
+     * Orders by score, breaking ties in favour of the smaller ordinal, from least to most relevant.
+     */
+    private static int compareRelevance(Map.Entry<Integer, Double> first, Map.Entry<Integer, Double> second) {
+        int byScore = Double.compare(first.getValue(), second.getValue());
+        return byScore != 0 ? byScore : Integer.compare(second.getKey(), first.getKey());
+    }
+}
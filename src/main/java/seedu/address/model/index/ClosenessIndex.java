@@ -0,0 +1,63 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.Closeness;
+import seedu.address.model.person.Person;
+
+/**
+ * Buckets the ordinals of the persons by their {@code Closeness} level.
+ * There is one {@code CompressedBitmap} per closeness level, so a range of levels is the union of its buckets.
+ */
+public class ClosenessIndex implements PersonIndex {
+
+    private final PersonOrdinals ordinals;
+    private final List<CompressedBitmap> buckets = new ArrayList<>(Closeness.LEVEL_COUNT);
+
+    /**
+     * Creates an empty index with a bucket for every closeness level, that numbers persons by {@code ordinals}.
+     */
+    public ClosenessIndex(PersonOrdinals ordinals) {
+        this.ordinals = requireNonNull(ordinals);
+        for (int i = 0; i < Closeness.LEVEL_COUNT; i++) {
+            buckets.add(new CompressedBitmap());
+        }
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        bucketOf(person.getCloseness().closenessLevel).add(ordinals.getOrdinal(person));
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        bucketOf(person.getCloseness().closenessLevel).remove(ordinals.getOrdinal(person));
+    }
+
+    @Override
+    public void clear() {
+        buckets.forEach(CompressedBitmap::clear);
+    }
+
+    /**
+     * Returns the ordinals of the persons with closeness level from {@code minLevel} to {@code maxLevel} inclusive.
+     * Levels outside the valid closeness range have no persons.
+     */
+    public CompressedBitmap getOrdinalsBetween(int minLevel, int maxLevel) {
+        CompressedBitmap matches = new CompressedBitmap();
+        int last = Math.min(maxLevel, Closeness.MAX_LEVEL);
+        for (int level = Math.max(minLevel, Closeness.MIN_LEVEL); level <= last; level++) {
+            matches = matches.or(bucketOf(level));
+        }
+        return matches;
+    }
+
+    private CompressedBitmap bucketOf(int level) {
+        return buckets.get(level - Closeness.MIN_LEVEL);
+    }
+}
@@ -0,0 +1,543 @@
+package seedu.address.model.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed set of non-negative integers, laid out like a Roaring bitmap.
+ * The integers are split into chunks of 65536 by their upper 16 bits. A sparse chunk keeps its lower 16 bits in a
+ * sorted array, and a dense chunk keeps them in a fixed bitmap of 65536 bits. A chunk switches between the two
+ * layouts as its cardinality crosses {@link #ARRAY_LIMIT}, so a chunk never takes more than 8KB.
+ *
+ * The set operations {@link #and}, {@link #or} and {@link #andNot} work chunk by chunk and return a new bitmap,
+ * leaving their operands unchanged.
+ */
+public class CompressedBitmap {
+
+    static final int ARRAY_LIMIT = 4096;
+
+    private static final int WORDS_PER_CHUNK = 1 << 10;
+
+    private char[] keys = new char[0];
+    private Chunk[] chunks = new Chunk[0];
+    private int chunkCount;
+
+    /**
+     * Returns a bitmap containing {@code values}.
+     */
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds {@code value}, which must be non-negative, to this bitmap.
+     */
+    public void add(int value) {
+        checkValue(value);
+        char key = highBits(value);
+        int position = findChunk(key);
+        if (position >= 0) {
+            chunks[position] = chunks[position].add(lowBits(value));
+        } else {
+            insertChunk(-position - 1, key, new ArrayChunk().add(lowBits(value)));
+        }
+    }
+
+    /**
+     * Removes {@code value} from this bitmap, if present.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int position = findChunk(highBits(value));
+        if (position < 0) {
+            return;
+        }
+        Chunk chunk = chunks[position].remove(lowBits(value));
+        if (chunk.getCardinality() == 0) {
+            removeChunk(position);
+        } else {
+            chunks[position] = chunk;
+        }
+    }
+
+    /**
+     * Removes all values from this bitmap.
+     */
+    public void clear() {
+        keys = new char[0];
+        chunks = new Chunk[0];
+        chunkCount = 0;
+    }
+
+    /**
+     * Returns true if this bitmap contains {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int position = findChunk(highBits(value));
+        return position >= 0 && chunks[position].contains(lowBits(value));
+    }
+
+    /**
+     * Returns the number of values in this bitmap.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].getCardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Passes every value of this bitmap to {@code action}, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Returns the values in both this bitmap and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], chunks[i].and(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in this bitmap, {@code other} or both.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || i < chunkCount && keys[i] < other.keys[j]) {
+                result.appendIfNotEmpty(keys[i], chunks[i].copy());
+                i++;
+            } else if (i == chunkCount || keys[i] > other.keys[j]) {
+                result.appendIfNotEmpty(other.keys[j], other.chunks[j].copy());
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], chunks[i].or(other.chunks[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in this bitmap that are not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.chunkCount && other.keys[j] == keys[i]) {
+                result.appendIfNotEmpty(keys[i], chunks[i].andNot(other.chunks[j]));
+            } else {
+                result.appendIfNotEmpty(keys[i], chunks[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of this bitmap that does not change with it.
+     */
+    public CompressedBitmap copy() {
+        return or(new CompressedBitmap());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        CompressedBitmap otherBitmap = (CompressedBitmap) other;
+        return Arrays.equals(toArray(), otherBitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] next = {0};
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Bitmap values must not be negative: " + value);
+        }
+    }
+
+    private static char highBits(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char lowBits(int value) {
+        return (char) value;
+    }
+
+    private int findChunk(char key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int position, char key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, position, keys, position + 1, chunkCount - position);
+        System.arraycopy(chunks, position, chunks, position + 1, chunkCount - position);
+        keys[position] = key;
+        chunks[position] = chunk;
+        chunkCount++;
+    }
+
+    private void removeChunk(int position) {
+        System.arraycopy(keys, position + 1, keys, position, chunkCount - position - 1);
+        System.arraycopy(chunks, position + 1, chunks, position, chunkCount - position - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    private void appendIfNotEmpty(char key, Chunk chunk) {
+        if (chunk.getCardinality() > 0) {
+            insertChunk(chunkCount, key, chunk);
+        }
+    }
+
+    /**
+     * The lower 16 bits of the values that share the same upper 16 bits.
+     * Operations that change a chunk return the chunk to use from then on, which may have a different layout.
+     */
+    private abstract static class Chunk {
+        abstract Chunk add(char value);
+
+        abstract Chunk remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int getCardinality();
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract Chunk and(Chunk other);
+
+        abstract Chunk or(Chunk other);
+
+        abstract Chunk andNot(Chunk other);
+
+        abstract Chunk copy();
+    }
+
+    /**
+     * A sparse chunk, kept as a sorted array.
+     */
+    private static class ArrayChunk extends Chunk {
+        private char[] values;
+        private int cardinality;
+
+        ArrayChunk() {
+            this(new char[4], 0);
+        }
+
+        ArrayChunk(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Chunk add(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                return toBitmapChunk().add(value);
+            }
+            position = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, values.length * 2));
+            }
+            System.arraycopy(values, position, values, position + 1, cardinality - position);
+            values[position] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayChunk) {
+                ArrayChunk otherArray = (ArrayChunk) other;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < otherArray.cardinality) {
+                    if (values[i] < otherArray.values[j]) {
+                        i++;
+                    } else if (values[i] > otherArray.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            if (!(other instanceof ArrayChunk)) {
+                return other.or(this);
+            }
+            ArrayChunk otherArray = (ArrayChunk) other;
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || i < cardinality && values[i] < otherArray.values[j]) {
+                    result[count++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[count++] = otherArray.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayChunk union = new ArrayChunk(result, count);
+            return count > ARRAY_LIMIT ? union.toBitmapChunk() : union;
+        }
+
+        @Override
+        Chunk andNot(Chunk other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, Math.max(1, cardinality)), cardinality);
+        }
+
+        BitmapChunk toBitmapChunk() {
+            BitmapChunk bitmap = new BitmapChunk();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * A dense chunk, kept as a bitmap of 65536 bits.
+     */
+    private static class BitmapChunk extends Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapChunk() {
+            this(new long[WORDS_PER_CHUNK], 0);
+        }
+
+        BitmapChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static Chunk ofWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            BitmapChunk bitmap = new BitmapChunk(words, cardinality);
+            return cardinality <= ARRAY_LIMIT ? bitmap.toArrayChunk() : bitmap;
+        }
+
+        @Override
+        Chunk add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) != 0) {
+                words[value >>> 6] &= ~bit;
+                cardinality--;
+            }
+            return cardinality <= ARRAY_LIMIT ? toArrayChunk() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            if (!(other instanceof BitmapChunk)) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapChunk) other).words;
+            long[] result = new long[WORDS_PER_CHUNK];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return ofWords(result);
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            BitmapChunk result = new BitmapChunk(words.clone(), cardinality);
+            if (other instanceof BitmapChunk) {
+                long[] otherWords = ((BitmapChunk) other).words;
+                for (int i = 0; i < result.words.length; i++) {
+                    result.words[i] |= otherWords[i];
+                }
+                return ofWords(result.words);
+            }
+            other.forEach(0, value -> result.add((char) value));
+            return result;
+        }
+
+        @Override
+        Chunk andNot(Chunk other) {
+            long[] result = words.clone();
+            if (other instanceof BitmapChunk) {
+                long[] otherWords = ((BitmapChunk) other).words;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            } else {
+                other.forEach(0, value -> result[value >>> 6] &= ~(1L << value));
+            }
+            return ofWords(result);
+        }
+
+        @Override
+        Chunk copy() {
+            return new BitmapChunk(words.clone(), cardinality);
+        }
+
+        ArrayChunk toArrayChunk() {
+            char[] values = new char[Math.max(1, cardinality)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayChunk(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each lower-cased email domain to the ordinals of the persons whose email is at it.
+ * The number of persons at each domain is kept up to date as persons are added and removed, so the counts can be
+ * read without a pass over the address book.
+ */
+public class EmailDomainIndex implements PersonIndex {
+
+    private final PersonOrdinals ordinals;
+    private final Map<String, CompressedBitmap> ordinalsByDomain = new HashMap<>();
+    private final Map<String, Integer> countsByDomain = new TreeMap<>();
+
+    /**
+     * Creates an empty index that numbers persons by {@code ordinals}.
+     */
+    public EmailDomainIndex(PersonOrdinals ordinals) {
+        this.ordinals = requireNonNull(ordinals);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        String domain = person.getEmail().getDomain();
+        ordinalsByDomain.computeIfAbsent(domain, unused -> new CompressedBitmap()).add(ordinals.getOrdinal(person));
+        countsByDomain.merge(domain, 1, Integer::sum);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        String domain = person.getEmail().getDomain();
+        int ordinal = ordinals.getOrdinal(person);
+        CompressedBitmap domainOrdinals = ordinalsByDomain.get(domain);
+        if (domainOrdinals == null || !domainOrdinals.contains(ordinal)) {
+            return;
+        }
+        domainOrdinals.remove(ordinal);
+        if (domainOrdinals.isEmpty()) {
+            ordinalsByDomain.remove(domain);
+            countsByDomain.remove(domain);
+        } else {
+            countsByDomain.merge(domain, -1, Integer::sum);
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByDomain.clear();
+        countsByDomain.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose email is at any of {@code domains}, ignoring case.
+     */
+    public CompressedBitmap getOrdinalsAtAny(Collection<String> domains) {
+        requireNonNull(domains);
+        CompressedBitmap matches = new CompressedBitmap();
+        for (String domain : domains) {
+            CompressedBitmap domainOrdinals = ordinalsByDomain.get(domain.toLowerCase());
+            if (domainOrdinals != null) {
+                matches = matches.or(domainOrdinals);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons at each domain that has any, in order of domain.
+     */
+    public Map<String, Integer> getCounts() {
+        return Collections.unmodifiableMap(new TreeMap<>(countsByDomain));
+    }
+}
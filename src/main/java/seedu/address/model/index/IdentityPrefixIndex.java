@@ -0,0 +1,63 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the persons sorted by the lower-cased value of one of their {@code IdentityField}s, so that the persons whose
+ * value starts with a given prefix form one contiguous range of the sorted map.
+ */
+public class IdentityPrefixIndex implements PersonIndex {
+
+    // separates the lower-cased value from the original one, which is unique to the person
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final IdentityField field;
+    private final NavigableMap<String, Person> personsByKey = new TreeMap<>();
+
+    /**
+     * Creates an empty index over {@code field}.
+     */
+    public IdentityPrefixIndex(IdentityField field) {
+        this.field = requireNonNull(field);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByKey.put(keyOf(person), person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        personsByKey.remove(keyOf(person), person);
+    }
+
+    @Override
+    public void clear() {
+        personsByKey.clear();
+    }
+
+    /**
+     * Returns the persons whose value of the indexed field starts with {@code prefix}, ignoring case.
+     */
+    public Set<Person> getPersons(String prefix) {
+        requireNonNull(prefix);
+        String lowerCasePrefix = prefix.toLowerCase();
+        return new HashSet<>(personsByKey.subMap(lowerCasePrefix, true,
+                lowerCasePrefix + Character.MAX_VALUE, false).values());
+    }
+
+    private String keyOf(Person person) {
+        String value = field.valueOf(person);
+        return value.toLowerCase() + KEY_SEPARATOR + value;
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.Person;
+
+/**
+ * A hash index from the lower-cased value of one of the persons' {@code IdentityField}s to the persons with it, so
+ * that the persons with a complete value are found in constant time, ignoring case.
+ * Values are unique to a person, but may differ only in case, so a lower-cased value can map to a few persons.
+ */
+public class IdentityValueIndex implements PersonIndex {
+
+    private final IdentityField field;
+    private final Map<String, List<Person>> personsByLowerCaseValue = new HashMap<>();
+
+    /**
+     * Creates an empty index over {@code field}.
+     */
+    public IdentityValueIndex(IdentityField field) {
+        this.field = requireNonNull(field);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        personsByLowerCaseValue.computeIfAbsent(keyOf(person), unused -> new ArrayList<>(1)).add(person);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        String key = keyOf(person);
+        List<Person> persons = personsByLowerCaseValue.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            personsByLowerCaseValue.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        personsByLowerCaseValue.clear();
+    }
+
+    /**
+     * Returns the persons whose value of the indexed field is {@code value}, ignoring case.
+     */
+    public Set<Person> getPersons(String value) {
+        requireNonNull(value);
+        return new HashSet<>(personsByLowerCaseValue.getOrDefault(value.toLowerCase(), List.of()));
+    }
+
+    private String keyOf(Person person) {
+        return field.valueOf(person).toLowerCase();
+    }
+}
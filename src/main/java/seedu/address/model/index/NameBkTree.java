@@ -0,0 +1,194 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * A BK-tree over the distinct lower-cased tokens (words) of the names, each with the ordinals of the persons whose
+ * name has it.
+ * Every child of a token is filed under its edit distance from the token. By the triangle inequality, a token within
+ * distance {@code k} of a query that is distance {@code d} from a node can only be under the children filed under
+ * {@code d - k} to {@code d + k}, so a search only visits a small part of the tree.
+ * A token that no name has any more cannot be taken out of a BK-tree on its own, so it is skipped by searches until
+ * such tokens make up half of the tree, which is then rebuilt from the tokens left.
+ */
+public class NameBkTree implements PersonIndex {
+
+    private final PersonOrdinals ordinals;
+    private final Map<String, Node> nodesByToken = new HashMap<>();
+    private Node root;
+    private int unusedTokenCount = 0;
+
+    /**
+     * Creates an empty index that numbers persons by {@code ordinals}.
+     */
+    public NameBkTree(PersonOrdinals ordinals) {
+        this.ordinals = requireNonNull(ordinals);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (String token : tokensOf(person)) {
+            Node node = nodesByToken.get(token);
+            if (node == null) {
+                node = new Node(token, new CompressedBitmap());
+                insert(node);
+                nodesByToken.put(token, node);
+            } else if (node.ordinals.isEmpty()) {
+                unusedTokenCount--;
+            }
+            node.ordinals.add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (String token : tokensOf(person)) {
+            Node node = nodesByToken.get(token);
+            if (node != null && !node.ordinals.isEmpty()) {
+                node.ordinals.remove(ordinal);
+                if (node.ordinals.isEmpty()) {
+                    unusedTokenCount++;
+                }
+            }
+        }
+        if (unusedTokenCount * 2 > nodesByToken.size()) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void clear() {
+        nodesByToken.clear();
+        root = null;
+        unusedTokenCount = 0;
+    }
+
+    /**
+     * Returns the tokens within edit distance {@code maxDistance} of {@code lowerCaseToken} that some name still has,
+     * nearest first.
+     */
+    public List<TokenMatch> search(String lowerCaseToken, int maxDistance) {
+        requireNonNull(lowerCaseToken);
+        List<TokenMatch> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.editDistance(lowerCaseToken, node.token);
+            if (distance <= maxDistance && !node.ordinals.isEmpty()) {
+                matches.add(new TokenMatch(node.token, distance, node.ordinals.copy()));
+            }
+            int last = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int i = Math.max(distance - maxDistance, 1); i <= last; i++) {
+                if (node.children[i] != null) {
+                    toVisit.push(node.children[i]);
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(TokenMatch::getDistance));
+        return matches;
+    }
+
+    /**
+     * Rebuilds the tree from the tokens that some name still has.
+     */
+    private void rebuild() {
+        List<Node> used = new ArrayList<>();
+        for (Node node : nodesByToken.values()) {
+            if (!node.ordinals.isEmpty()) {
+                used.add(new Node(node.token, node.ordinals));
+            }
+        }
+        clear();
+        for (Node node : used) {
+            insert(node);
+            nodesByToken.put(node.token, node);
+        }
+    }
+
+    private void insert(Node inserted) {
+        if (root == null) {
+            root = inserted;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.editDistance(inserted.token, node.token);
+            if (distance >= node.children.length) {
+                node.children = Arrays.copyOf(node.children, distance + 1);
+            }
+            if (node.children[distance] == null) {
+                node.children[distance] = inserted;
+                return;
+            }
+            node = node.children[distance];
+        }
+    }
+
+    private static String[] tokensOf(Person person) {
+        return person.getName().fullName.toLowerCase().split("\\s+");
+    }
+
+    /**
+     * A token of the tree, with its children filed by their edit distance from it.
+     */
+    private static class Node {
+        private final String token;
+        private final CompressedBitmap ordinals;
+        private Node[] children = new Node[0];
+
+        Node(String token, CompressedBitmap ordinals) {
+            this.token = token;
+            this.ordinals = ordinals;
+        }
+    }
+
+    /**
+     * A token found by {@link #search}, with its distance from the query and the ordinals of the persons whose name
+     * has it.
+     */
+    public static class TokenMatch {
+        private final String token;
+        private final int distance;
+        private final CompressedBitmap ordinals;
+
+        TokenMatch(String token, int distance, CompressedBitmap ordinals) {
+            this.token = token;
+            this.distance = distance;
+            this.ordinals = ordinals;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+
+        public CompressedBitmap getOrdinals() {
+            return ordinals;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each gram (sequence of up to three characters) of the names, with case folded by
+ * {@link StringUtil#foldCase(String)}, to the ordinals of the persons whose name contains it.
+ * The names containing a substring of up to three characters are exactly those indexed under it. A name that contains
+ * a longer substring must contain every trigram of the substring, so the persons indexed under all of those trigrams
+ * are a superset of the names containing the substring.
+ */
+public class NameTrigramIndex implements PersonIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final PersonOrdinals ordinals;
+    private final Map<String, CompressedBitmap> ordinalsByGram = new HashMap<>();
+
+    /**
+     * Creates an empty index that numbers persons by {@code ordinals}.
+     */
+    public NameTrigramIndex(PersonOrdinals ordinals) {
+        this.ordinals = requireNonNull(ordinals);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (String gram : gramsOf(toIndexedForm(person), 1)) {
+            ordinalsByGram.computeIfAbsent(gram, unused -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (String gram : gramsOf(toIndexedForm(person), 1)) {
+            CompressedBitmap gramOrdinals = ordinalsByGram.get(gram);
+            if (gramOrdinals == null) {
+                continue;
+            }
+            gramOrdinals.remove(ordinal);
+            if (gramOrdinals.isEmpty()) {
+                ordinalsByGram.remove(gram);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByGram.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name may contain {@code substring} ignoring case, which must not be
+     * empty: the persons indexed under the substring itself if it is at most a trigram long, who all contain it, or
+     * else the persons indexed under every one of its trigrams, who still have to be checked against it.
+     */
+    public CompressedBitmap getCandidates(String substring) {
+        requireNonNull(substring);
+        checkArgument(!substring.isEmpty(), "The substring must not be empty.");
+        CompressedBitmap candidates = null;
+        // the trigrams of the substring, or the substring itself if it is shorter
+        for (String gram : gramsOf(StringUtil.foldCase(substring), GRAM_LENGTH)) {
+            CompressedBitmap gramOrdinals = ordinalsByGram.get(gram);
+            if (gramOrdinals == null) {
+                return new CompressedBitmap();
+            }
+            candidates = candidates == null ? gramOrdinals.copy() : candidates.and(gramOrdinals);
+        }
+        return candidates;
+    }
+
+    private static String toIndexedForm(Person person) {
+        return StringUtil.foldCase(person.getName().fullName);
+    }
+
+    /**
+     * Returns the distinct substrings of {@code text} from {@code minLength} to {@code GRAM_LENGTH} characters long,
+     * or {@code text} itself if it is shorter than {@code minLength}.
+     */
+    private static Set<String> gramsOf(String text, int minLength) {
+        if (text.length() < minLength) {
+            return Set.of(text);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int length = minLength; length <= GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+}
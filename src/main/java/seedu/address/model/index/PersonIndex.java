@@ -0,0 +1,27 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A secondary index over the persons of an {@code AddressBook}.
+ * The address book notifies its indexes of every change to its person list, so that lookups can be answered from
+ * the index instead of by scanning every person.
+ */
+public interface PersonIndex {
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person);
+
+    /**
+     * Removes {@code person} from the index.
+     * {@code person} must have been added to the index before.
+     */
+    void remove(Person person);
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear();
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Numbers the persons of an address book with dense ordinals, so that sets of persons can be kept as
+ * {@code CompressedBitmap}s of their ordinals.
+ * The ordinal of a removed person is given to the next person added, so the ordinals stay close to
+ * {@code [0, number of persons)} and a person edited in place keeps its ordinal.
+ * Indexes that key their postings by ordinal must be added after, and removed before, this index.
+ */
+public class PersonOrdinals implements PersonIndex {
+
+    private final Map<Person, Integer> ordinalsByPerson = new HashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final CompressedBitmap allOrdinals = new CompressedBitmap();
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinalsByPerson.put(person, ordinal);
+        allOrdinals.add(ordinal);
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinalsByPerson.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+        allOrdinals.remove(ordinal);
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByPerson.clear();
+        personsByOrdinal.clear();
+        freeOrdinals.clear();
+        allOrdinals.clear();
+    }
+
+    /**
+     * Returns the ordinal of {@code person}, which must have been added.
+     */
+    public int getOrdinal(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinalsByPerson.get(person);
+        if (ordinal == null) {
+            throw new IllegalArgumentException("Person has no ordinal: " + person);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Returns the person numbered {@code ordinal}, which must be the ordinal of a person that has been added.
+     */
+    public Person getPerson(int ordinal) {
+        Person person = ordinal < personsByOrdinal.size() ? personsByOrdinal.get(ordinal) : null;
+        if (person == null) {
+            throw new IllegalArgumentException("No person has ordinal " + ordinal);
+        }
+        return person;
+    }
+
+    /**
+     * Returns the ordinals of the persons that are not in {@code ordinals}.
+     */
+    public CompressedBitmap complementOf(CompressedBitmap ordinals) {
+        requireNonNull(ordinals);
+        return allOrdinals.andNot(ordinals);
+    }
+
+    /**
+     * Returns the ordinals of {@code persons}, which must all have been added.
+     */
+    public CompressedBitmap toOrdinals(Collection<Person> persons) {
+        requireNonNull(persons);
+        CompressedBitmap ordinals = new CompressedBitmap();
+        persons.forEach(person -> ordinals.add(getOrdinal(person)));
+        return ordinals;
+    }
+
+    /**
+     * Returns the persons numbered by {@code ordinals}.
+     */
+    public Set<Person> toPersons(CompressedBitmap ordinals) {
+        requireNonNull(ordinals);
+        Set<Person> persons = new HashSet<>();
+        ordinals.forEach(ordinal -> persons.add(personsByOrdinal.get(ordinal)));
+        return persons;
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A fixed-depth trie over the digits of the phone numbers, read from the front or, for a reversed trie, from the back,
+ * so that the persons whose number starts (or ends) with some digits are found without a scan.
+ * Only the top {@link #BITMAP_DEPTH} levels are kept as nodes, each with the ordinals of the persons whose number
+ * passes through it; as every level has at most a fixed number of nodes, each level is an array indexed by the digits
+ * leading to the node, with no child pointers. A longer run of digits is rare and narrows the numbers down to a few, so
+ * it is answered from the numbers kept in order, as the range of those starting with it, and every person is stored
+ * there only once.
+ * A node is dropped once no number passes through it.
+ */
+public class PhoneDigitTrie implements PersonIndex {
+
+    /** The most digits that are answered from the ordinals kept at a node. */
+    public static final int BITMAP_DEPTH = 4;
+
+    private static final int RADIX = 10;
+
+    private final PersonOrdinals ordinals;
+    private final boolean reversed;
+    // nodesByDepth[d - 1][p] holds the ordinals of the numbers whose first d digits are p, or null if there are none
+    private final CompressedBitmap[][] nodesByDepth = new CompressedBitmap[BITMAP_DEPTH][];
+    // the digits of every number, in the order of this trie, to the ordinal of the person with it; numbers are unique
+    private final TreeMap<String, Integer> ordinalsByDigits = new TreeMap<>();
+
+    /**
+     * Creates an empty index that numbers persons by {@code ordinals}, over the digits of the phone numbers from the
+     * back if {@code reversed}, or from the front otherwise.
+     */
+    public PhoneDigitTrie(PersonOrdinals ordinals, boolean reversed) {
+        this.ordinals = requireNonNull(ordinals);
+        this.reversed = reversed;
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        String digits = digitsOf(person);
+        if (!isDigits(digits)) {
+            return;
+        }
+        int ordinal = ordinals.getOrdinal(person);
+        ordinalsByDigits.put(digits, ordinal);
+        int prefix = 0;
+        for (int depth = 1; depth <= Math.min(BITMAP_DEPTH, digits.length()); depth++) {
+            prefix = prefix * RADIX + digits.charAt(depth - 1) - '0';
+            CompressedBitmap[] level = nodesByDepth[depth - 1];
+            if (level == null) {
+                level = new CompressedBitmap[(int) Math.pow(RADIX, depth)];
+                nodesByDepth[depth - 1] = level;
+            }
+            if (level[prefix] == null) {
+                level[prefix] = new CompressedBitmap();
+            }
+            level[prefix].add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        String digits = digitsOf(person);
+        if (!isDigits(digits)) {
+            return;
+        }
+        int ordinal = ordinals.getOrdinal(person);
+        ordinalsByDigits.remove(digits, ordinal);
+        int prefix = 0;
+        for (int depth = 1; depth <= Math.min(BITMAP_DEPTH, digits.length()); depth++) {
+            prefix = prefix * RADIX + digits.charAt(depth - 1) - '0';
+            CompressedBitmap[] level = nodesByDepth[depth - 1];
+            if (level == null || level[prefix] == null) {
+                return;
+            }
+            level[prefix].remove(ordinal);
+            if (level[prefix].isEmpty()) {
+                level[prefix] = null;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(nodesByDepth, null);
+        ordinalsByDigits.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose phone number starts with {@code digits}, or ends with them if this
+     * trie is reversed. {@code digits} are given in the order they appear in the number either way.
+     */
+    public CompressedBitmap getOrdinalsMatching(String digits) {
+        requireNonNull(digits);
+        if (!isDigits(digits)) {
+            return new CompressedBitmap();
+        }
+        String path = reversed ? new StringBuilder(digits).reverse().toString() : digits;
+        if (path.isEmpty() || path.length() > BITMAP_DEPTH) {
+            // the numbers starting with the path are those from the path up to, but excluding, the path followed by
+            // the character after '9'
+            CompressedBitmap matching = new CompressedBitmap();
+            ordinalsByDigits.subMap(path, true, path + (char) ('9' + 1), false).values().forEach(matching::add);
+            return matching;
+        }
+
+        CompressedBitmap[] level = nodesByDepth[path.length() - 1];
+        CompressedBitmap node = level == null ? null : level[Integer.parseInt(path)];
+        return node == null ? new CompressedBitmap() : node.copy();
+    }
+
+    private String digitsOf(Person person) {
+        String digits = person.getPhone().value;
+        return reversed ? new StringBuilder(digits).reverse().toString() : digits;
+    }
+
+    private static boolean isDigits(String text) {
+        return text.chars().allMatch(c -> c >= '0' && c <= '9');
+    }
+}
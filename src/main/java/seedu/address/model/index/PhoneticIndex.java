@@ -0,0 +1,72 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * A hash index from the phonetic key of each word of the names to the ordinals of the persons whose name has a word
+ * with that key, so that the persons with a name that sounds like a word are read from a single bucket.
+ *
+ * @see StringUtil#phoneticKey(String)
+ */
+public class PhoneticIndex implements PersonIndex {
+
+    private final PersonOrdinals ordinals;
+    private final Map<String, CompressedBitmap> ordinalsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty index that numbers persons by {@code ordinals}.
+     */
+    public PhoneticIndex(PersonOrdinals ordinals) {
+        this.ordinals = requireNonNull(ordinals);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (String word : wordsOf(person)) {
+            ordinalsByKey.computeIfAbsent(StringUtil.phoneticKey(word), unused -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (String word : wordsOf(person)) {
+            String key = StringUtil.phoneticKey(word);
+            CompressedBitmap keyOrdinals = ordinalsByKey.get(key);
+            if (keyOrdinals == null) {
+                continue;
+            }
+            keyOrdinals.remove(ordinal);
+            if (keyOrdinals.isEmpty()) {
+                ordinalsByKey.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByKey.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons whose name has a word that sounds like {@code word}.
+     */
+    public CompressedBitmap getOrdinalsSoundingLike(String word) {
+        requireNonNull(word);
+        CompressedBitmap keyOrdinals = ordinalsByKey.get(StringUtil.phoneticKey(word));
+        return keyOrdinals == null ? new CompressedBitmap() : keyOrdinals.copy();
+    }
+
+    private static String[] wordsOf(Person person) {
+        return person.getName().fullName.split("\\s+");
+    }
+}
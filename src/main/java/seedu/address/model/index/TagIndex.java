@@ -0,0 +1,73 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from each {@code Tag} to the ordinals of the persons that have it.
+ * Only tags that are assigned to at least one person are kept, and each posting list is a {@code CompressedBitmap},
+ * so memory use is proportional to the number of tag assignments.
+ */
+public class TagIndex implements PersonIndex {
+
+    private final PersonOrdinals ordinals;
+    private final Map<Tag, CompressedBitmap> ordinalsByTag = new HashMap<>();
+
+    /**
+     * Creates an empty index that numbers persons by {@code ordinals}.
+     */
+    public TagIndex(PersonOrdinals ordinals) {
+        this.ordinals = requireNonNull(ordinals);
+    }
+
+    @Override
+    public void add(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (Tag tag : person.getTags()) {
+            ordinalsByTag.computeIfAbsent(tag, unused -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        requireNonNull(person);
+        int ordinal = ordinals.getOrdinal(person);
+        for (Tag tag : person.getTags()) {
+            CompressedBitmap tagOrdinals = ordinalsByTag.get(tag);
+            if (tagOrdinals == null) {
+                continue;
+            }
+            tagOrdinals.remove(ordinal);
+            if (tagOrdinals.isEmpty()) {
+                ordinalsByTag.remove(tag);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        ordinalsByTag.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons that have any of {@code tags}.
+     */
+    public CompressedBitmap getOrdinalsWithAny(Collection<Tag> tags) {
+        requireNonNull(tags);
+        CompressedBitmap matches = new CompressedBitmap();
+        for (Tag tag : tags) {
+            CompressedBitmap tagOrdinals = ordinalsByTag.get(requireNonNull(tag));
+            if (tagOrdinals != null) {
+                matches = matches.or(tagOrdinals);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
+
+/**
+ * Tests that a {@code Person} satisfies all of the predicates given.
+ * Matches are the intersection of the matching ordinals of the predicates. A negated predicate is subtracted from
+ * the intersection instead of being complemented first.
+ */
+public class AndPredicate implements IndexedPersonPredicate {
+    private final List<IndexedPersonPredicate> operands;
+
+    /**
+     * Creates a predicate matching persons that satisfy every one of {@code operands}.
+     */
+    public AndPredicate(List<IndexedPersonPredicate> operands) {
+        this.operands = requireNonNull(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().allMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.toPersons(findMatchingOrdinals(addressBook));
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        CompressedBitmap matches = null;
+        for (IndexedPersonPredicate operand : operands) {
+            if (!(operand instanceof NotPredicate)) {
+                CompressedBitmap operandMatches = operand.findMatchingOrdinals(addressBook);
+                matches = matches == null ? operandMatches : matches.and(operandMatches);
+            }
+        }
+        if (matches == null) {
+            matches = addressBook.getOrdinalsNotIn(new CompressedBitmap());
+        }
+
+        for (IndexedPersonPredicate operand : operands) {
+            if (matches.isEmpty()) {
+                break;
+            }
+            if (operand instanceof NotPredicate) {
+                matches = matches.andNot(((NotPredicate) operand).getNegated().findMatchingOrdinals(addressBook));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AndPredicate)) {
+            return false;
+        }
+
+        AndPredicate otherPredicate = (AndPredicate) other;
+        return operands.equals(otherPredicate.operands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
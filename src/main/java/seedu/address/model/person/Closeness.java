@@ -11,6 +11,9 @@ public class Closeness {
     public static final String MESSAGE_CONSTRAINTS =
             "Closeness rating should be an integer between 1 and 5 inclusive.";
     public static final String VALIDATION_REGEX = "^[1-5]$";
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 5;
+    public static final int LEVEL_COUNT = MAX_LEVEL - MIN_LEVEL + 1;
     public final int closenessLevel;
 
     /**
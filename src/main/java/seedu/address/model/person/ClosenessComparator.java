@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+
+/**
+ * Orders persons by their {@code Closeness} level.
+ * As there are only a few closeness levels, the model orders by this comparator with a counting sort over the
+ * levels instead of a comparison sort; persons with the same level keep their relative order.
+ */
+public class ClosenessComparator implements Comparator<Person> {
+    public static final ClosenessComparator ASCENDING = new ClosenessComparator(false);
+    public static final ClosenessComparator DESCENDING = new ClosenessComparator(true);
+
+    private final boolean isDescending;
+
+    private ClosenessComparator(boolean isDescending) {
+        this.isDescending = isDescending;
+    }
+
+    /**
+     * Returns the position of the closeness level of {@code person} in this order,
+     * from 0 (first) to {@code Closeness.LEVEL_COUNT - 1} (last).
+     */
+    public int getRank(Person person) {
+        int level = person.getCloseness().closenessLevel;
+        return isDescending ? Closeness.MAX_LEVEL - level : level - Closeness.MIN_LEVEL;
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return Integer.compare(getRank(first), getRank(second));
+    }
+
+    @Override
+    public String toString() {
+        return isDescending ? "closeness descending" : "closeness ascending";
+    }
+}
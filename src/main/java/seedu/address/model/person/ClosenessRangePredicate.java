@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
+
+/**
+ * Tests that a {@code Person}'s {@code Closeness} level falls within a range of levels.
+ * Matches are read from the closeness buckets of the address book.
+ */
+public class ClosenessRangePredicate implements IndexedPersonPredicate {
+    public static final String MESSAGE_CONSTRAINTS =
+            "Closeness range should be a closeness level between 1 and 5 inclusive, "
+            + "optionally preceded by one of =, >, >=, < or <=, e.g. >=4";
+    public static final String VALIDATION_REGEX = "^(>=|<=|>|<|=)?[1-5]$";
+
+    private final int minLevel;
+    private final int maxLevel;
+
+    /**
+     * Creates a predicate matching closeness levels from {@code minLevel} to {@code maxLevel} inclusive.
+     */
+    public ClosenessRangePredicate(int minLevel, int maxLevel) {
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Returns true if a given string is a valid closeness range.
+     */
+    public static boolean isValidClosenessRange(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Creates the predicate described by {@code range}, which must be a valid closeness range.
+     */
+    public static ClosenessRangePredicate of(String range) {
+        requireNonNull(range);
+        checkArgument(isValidClosenessRange(range), MESSAGE_CONSTRAINTS);
+        String operator = range.substring(0, range.length() - 1);
+        int level = Character.getNumericValue(range.charAt(range.length() - 1));
+        switch (operator) {
+        case ">=":
+            return new ClosenessRangePredicate(level, Closeness.MAX_LEVEL);
+        case "<=":
+            return new ClosenessRangePredicate(Closeness.MIN_LEVEL, level);
+        case ">":
+            return new ClosenessRangePredicate(level + 1, Closeness.MAX_LEVEL);
+        case "<":
+            return new ClosenessRangePredicate(Closeness.MIN_LEVEL, level - 1);
+        default:
+            return new ClosenessRangePredicate(level, level);
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        int level = person.getCloseness().closenessLevel;
+        return minLevel <= level && level <= maxLevel;
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.getPersonsWithClosenessBetween(minLevel, maxLevel);
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        return addressBook.getOrdinalsWithClosenessBetween(minLevel, maxLevel);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ClosenessRangePredicate)) {
+            return false;
+        }
+
+        ClosenessRangePredicate otherPredicate = (ClosenessRangePredicate) other;
+        return minLevel == otherPredicate.minLevel && maxLevel == otherPredicate.maxLevel;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("minLevel", minLevel).add("maxLevel", maxLevel).toString();
+    }
+}
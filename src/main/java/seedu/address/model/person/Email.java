@@ -51,6 +51,13 @@ public class Email {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the domain of this email, i.e. the part after the {@code @}, in lower case.
+     */
+    public String getDomain() {
+        return value.substring(value.lastIndexOf('@') + 1).toLowerCase();
+    }
+
     @Override
     public String toString() {
         return value;
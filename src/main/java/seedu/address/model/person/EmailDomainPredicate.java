@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} is at any of the domains given, ignoring case.
+ * Matches are read from the email domain index of the address book.
+ */
+public class EmailDomainPredicate implements IndexedPersonPredicate {
+    private final List<String> domains;
+    private final Set<String> lowerCaseDomains;
+
+    /**
+     * Creates a predicate matching emails at any of {@code domains}.
+     */
+    public EmailDomainPredicate(List<String> domains) {
+        this.domains = requireNonNull(domains);
+        this.lowerCaseDomains = domains.stream().map(String::toLowerCase).collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return lowerCaseDomains.contains(person.getEmail().getDomain());
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.getPersonsWithEmailAtAny(domains);
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        return addressBook.getOrdinalsWithEmailAtAny(domains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof EmailDomainPredicate)) {
+            return false;
+        }
+
+        EmailDomainPredicate otherPredicate = (EmailDomainPredicate) other;
+        return domains.equals(otherPredicate.domains);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("domains", domains).toString();
+    }
+}
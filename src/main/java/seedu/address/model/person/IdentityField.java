@@ -0,0 +1,36 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The fields of a {@code Person} that identify the person, as used by {@link Person#isSamePerson(Person)}.
+ * No two persons in an address book share a value of any of these fields.
+ */
+public enum IdentityField {
+    PHONE(Phone::isValidPhone, person -> person.getPhone().value),
+    EMAIL(Email::isValidEmail, person -> person.getEmail().value),
+    HANDLE(Handle::isValidHandle, person -> person.getHandle().teleHandle);
+
+    private final Predicate<String> validator;
+    private final Function<Person, String> getter;
+
+    IdentityField(Predicate<String> validator, Function<Person, String> getter) {
+        this.validator = validator;
+        this.getter = getter;
+    }
+
+    /**
+     * Returns true if {@code value} is a complete, valid value of this field.
+     */
+    public boolean isValidValue(String value) {
+        return validator.test(value);
+    }
+
+    /**
+     * Returns the value of this field of {@code person}.
+     */
+    public String valueOf(Person person) {
+        return getter.apply(person);
+    }
+}
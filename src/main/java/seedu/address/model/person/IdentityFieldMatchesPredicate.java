@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+
+/**
+ * Tests that one of a {@code Person}'s identity fields matches any of the values given, ignoring case.
+ * A value that is a complete, valid value of the field matches that exact value only, as it can identify at most one
+ * person, and is looked up from the identity value indexes of the address book. Any other value matches the start of
+ * the field, and is looked up from the identity prefix indexes.
+ */
+public class IdentityFieldMatchesPredicate implements IndexedPersonPredicate {
+    private final IdentityField field;
+    private final List<String> values;
+    // the complete values, matched exactly, and the others, matched as prefixes, all lower-cased
+    private final Set<String> lowerCaseCompleteValues = new HashSet<>();
+    private final List<String> lowerCasePrefixes = new ArrayList<>();
+
+    /**
+     * Creates a predicate matching persons whose {@code field} matches any of {@code values}.
+     */
+    public IdentityFieldMatchesPredicate(IdentityField field, List<String> values) {
+        this.field = requireNonNull(field);
+        this.values = requireNonNull(values);
+        for (String value : values) {
+            if (field.isValidValue(value)) {
+                lowerCaseCompleteValues.add(value.toLowerCase());
+            } else {
+                lowerCasePrefixes.add(value.toLowerCase());
+            }
+        }
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String fieldValue = field.valueOf(person).toLowerCase();
+        return lowerCaseCompleteValues.contains(fieldValue)
+                || lowerCasePrefixes.stream().anyMatch(fieldValue::startsWith);
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        Set<Person> matches = new HashSet<>();
+        for (String value : lowerCaseCompleteValues) {
+            matches.addAll(addressBook.getPersonsWithValue(field, value));
+        }
+        for (String prefix : lowerCasePrefixes) {
+            matches.addAll(addressBook.getPersonsWithPrefix(field, prefix));
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof IdentityFieldMatchesPredicate)) {
+            return false;
+        }
+
+        IdentityFieldMatchesPredicate otherPredicate = (IdentityFieldMatchesPredicate) other;
+        return field == otherPredicate.field && values.equals(otherPredicate.values);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("values", values).toString();
+    }
+}
@@ -1,24 +1,44 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
+import seedu.address.commons.util.KeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name} contains any of the keywords given, ignoring case.
+ * Matches are looked up from the name gram index of the address book.
+ * The keywords are compiled once into a {@code KeywordMatcher}, so a name is checked against all of them in one pass.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a predicate matching names that contain any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = KeywordMatcher.compile(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getName().fullName.toLowerCase().contains(keyword.toLowerCase()));
+        return matcher.matchesAnyIn(person.getName().fullName);
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.getPersonsWithNameContainingAny(keywords);
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        return addressBook.getOrdinalsWithNameContainingAny(keywords);
     }
 
     @Override
@@ -0,0 +1,45 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+
+/**
+ * Orders persons by how close their name is to the keywords of a {@code NameFuzzyMatchPredicate}, nearest first.
+ * Only the few persons found by a fuzzy search are ranked, so the distances are measured again on every comparison
+ * rather than remembered for persons that may later be edited or deleted.
+ */
+public class NameDistanceComparator implements Comparator<Person> {
+    private final NameFuzzyMatchPredicate predicate;
+
+    /**
+     * Creates a comparator ordering by the distances measured by {@code predicate}.
+     */
+    public NameDistanceComparator(NameFuzzyMatchPredicate predicate) {
+        this.predicate = requireNonNull(predicate);
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return Integer.compare(predicate.getDistance(first), predicate.getDistance(second));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NameDistanceComparator)) {
+            return false;
+        }
+
+        NameDistanceComparator otherComparator = (NameDistanceComparator) other;
+        return predicate.equals(otherComparator.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return "name distance to " + predicate;
+    }
+}
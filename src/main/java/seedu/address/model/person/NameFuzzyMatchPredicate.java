@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is within a small edit distance of any of the keywords given,
+ * ignoring case, so that names are found despite typos.
+ * The distance allowed grows with the length of the keyword, see {@link #maxDistanceFor(String)}.
+ * Matches are looked up from the name BK-tree of the address book.
+ */
+public class NameFuzzyMatchPredicate implements IndexedPersonPredicate {
+    private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
+
+    /**
+     * Creates a predicate matching names with a word close to any of {@code keywords}.
+     */
+    public NameFuzzyMatchPredicate(List<String> keywords) {
+        this.keywords = requireNonNull(keywords);
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the largest edit distance at which a word still matches {@code keyword}.
+     * Short keywords must match exactly, as nearly every short word is a few edits away from them.
+     */
+    public static int maxDistanceFor(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person) != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the smallest edit distance between a word of the name of {@code person} and a keyword that it matches,
+     * or {@code Integer.MAX_VALUE} if no word matches.
+     */
+    public int getDistance(Person person) {
+        String[] words = person.getName().fullName.toLowerCase().split("\\s+");
+        int bestDistance = Integer.MAX_VALUE;
+        for (String keyword : lowerCaseKeywords) {
+            int maxDistance = maxDistanceFor(keyword);
+            int distance = Arrays.stream(words).mapToInt(word -> StringUtil.editDistance(keyword, word)).min()
+                    .orElse(Integer.MAX_VALUE);
+            if (distance <= maxDistance) {
+                bestDistance = Math.min(bestDistance, distance);
+            }
+        }
+        return bestDistance;
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.toPersons(findMatchingOrdinals(addressBook));
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        CompressedBitmap matches = new CompressedBitmap();
+        for (String keyword : lowerCaseKeywords) {
+            matches = matches.or(addressBook.getOrdinalsWithNameWordNear(keyword, maxDistanceFor(keyword)));
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NameFuzzyMatchPredicate)) {
+            return false;
+        }
+
+        NameFuzzyMatchPredicate otherPredicate = (NameFuzzyMatchPredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} sounds like any of the keywords given, i.e. has the same
+ * phonetic key.
+ * Matches are read from the phonetic index of the address book, one bucket per keyword.
+ */
+public class NameSoundsLikePredicate implements IndexedPersonPredicate {
+    private final List<String> keywords;
+    private final Set<String> keywordKeys;
+
+    /**
+     * Creates a predicate matching names with a word that sounds like any of {@code keywords}.
+     */
+    public NameSoundsLikePredicate(List<String> keywords) {
+        this.keywords = requireNonNull(keywords);
+        this.keywordKeys = keywords.stream().map(StringUtil::phoneticKey).collect(Collectors.toSet());
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return Arrays.stream(person.getName().fullName.split("\\s+"))
+                .map(StringUtil::phoneticKey)
+                .anyMatch(keywordKeys::contains);
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.toPersons(findMatchingOrdinals(addressBook));
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        CompressedBitmap matches = new CompressedBitmap();
+        for (String keyword : keywords) {
+            matches = matches.or(addressBook.getOrdinalsWithNameSoundingLike(keyword));
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NameSoundsLikePredicate)) {
+            return false;
+        }
+
+        NameSoundsLikePredicate otherPredicate = (NameSoundsLikePredicate) other;
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
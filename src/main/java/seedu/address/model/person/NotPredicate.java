@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
+
+/**
+ * Tests that a {@code Person} does not satisfy the predicate given.
+ * Matches are the ordinals of the address book that the predicate does not match.
+ */
+public class NotPredicate implements IndexedPersonPredicate {
+    private final IndexedPersonPredicate negated;
+
+    /**
+     * Creates a predicate matching persons that do not satisfy {@code negated}.
+     */
+    public NotPredicate(IndexedPersonPredicate negated) {
+        this.negated = requireNonNull(negated);
+    }
+
+    public IndexedPersonPredicate getNegated() {
+        return negated;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !negated.test(person);
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.toPersons(findMatchingOrdinals(addressBook));
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        return addressBook.getOrdinalsNotIn(negated.findMatchingOrdinals(addressBook));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherPredicate = (NotPredicate) other;
+        return negated.equals(otherPredicate.negated);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("negated", negated).toString();
+    }
+}
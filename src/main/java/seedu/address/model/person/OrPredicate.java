@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
+
+/**
+ * Tests that a {@code Person} satisfies any of the predicates given.
+ * Matches are the union of the matching ordinals of the predicates.
+ */
+public class OrPredicate implements IndexedPersonPredicate {
+    private final List<IndexedPersonPredicate> operands;
+
+    /**
+     * Creates a predicate matching persons that satisfy at least one of {@code operands}.
+     */
+    public OrPredicate(List<IndexedPersonPredicate> operands) {
+        this.operands = requireNonNull(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().anyMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.toPersons(findMatchingOrdinals(addressBook));
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        CompressedBitmap matches = new CompressedBitmap();
+        for (IndexedPersonPredicate operand : operands) {
+            matches = matches.or(operand.findMatchingOrdinals(addressBook));
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof OrPredicate)) {
+            return false;
+        }
+
+        OrPredicate otherPredicate = (OrPredicate) other;
+        return operands.equals(otherPredicate.operands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
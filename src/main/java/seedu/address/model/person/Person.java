@@ -27,6 +27,7 @@ public class Person {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
     private String profilePicture;
+    private int hash; // computed on first use, as every field is immutable
 
     /**
      * Every field must be present and not null.
@@ -138,7 +139,10 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, handle, profilePicture, closeness);
+        if (hash == 0) {
+            hash = Objects.hash(name, phone, email, address, tags, handle, profilePicture, closeness);
+        }
+        return hash;
     }
 
     @Override
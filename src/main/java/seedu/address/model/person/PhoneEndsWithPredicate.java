@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} ends with any of the digits given.
+ * Matches are looked up from the reversed phone digit trie of the address book.
+ */
+public class PhoneEndsWithPredicate implements IndexedPersonPredicate {
+    private final List<String> digits;
+
+    /**
+     * Creates a predicate matching phone numbers that end with any of {@code digits}.
+     */
+    public PhoneEndsWithPredicate(List<String> digits) {
+        this.digits = requireNonNull(digits);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return digits.stream().anyMatch(person.getPhone().value::endsWith);
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.getPersonsWithPhoneEndingWithAny(digits);
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        return addressBook.getOrdinalsWithPhoneEndingWithAny(digits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PhoneEndsWithPredicate)) {
+            return false;
+        }
+
+        PhoneEndsWithPredicate otherPredicate = (PhoneEndsWithPredicate) other;
+        return digits.equals(otherPredicate.digits);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("digits", digits).toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+
+/**
+ * Tests that a {@code Person} is one of the persons already found by a ranked search, such as the most relevant
+ * addresses, so that filtering by them only looks up those persons rather than searching again.
+ */
+public class RankedPersonsPredicate implements IndexedPersonPredicate {
+    private final List<Person> ranked;
+    private final Map<Person, Integer> ranks = new HashMap<>();
+
+    /**
+     * Creates a predicate matching the persons of {@code ranked}, which are ordered highest rank first.
+     */
+    public RankedPersonsPredicate(List<Person> ranked) {
+        this.ranked = List.copyOf(requireNonNull(ranked));
+        for (int i = 0; i < this.ranked.size(); i++) {
+            ranks.put(this.ranked.get(i), i);
+        }
+    }
+
+    /**
+     * Returns a comparator that orders the persons matched by their rank, highest first.
+     */
+    public Comparator<Person> getRanking() {
+        return Comparator.comparingInt(person -> ranks.getOrDefault(person, ranked.size()));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return ranks.containsKey(person);
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return Collections.unmodifiableSet(ranks.keySet());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof RankedPersonsPredicate)) {
+            return false;
+        }
+
+        RankedPersonsPredicate otherPredicate = (RankedPersonsPredicate) other;
+        return ranked.equals(otherPredicate.ranked);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ranked", ranked).toString();
+    }
+}
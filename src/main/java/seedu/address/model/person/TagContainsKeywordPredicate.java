@@ -1,15 +1,18 @@
 package seedu.address.model.person;
 
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.index.CompressedBitmap;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} set contains any of the tags given.
+ * Matches are looked up from the tag index of the address book.
  */
-public class TagContainsKeywordPredicate implements Predicate<Person> {
+public class TagContainsKeywordPredicate implements IndexedPersonPredicate {
     private final Set<Tag> tags;
 
     public TagContainsKeywordPredicate(Set<Tag> tags) {
@@ -18,9 +21,18 @@ public class TagContainsKeywordPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return tags.stream()
-                .anyMatch(predicateTag -> person.getTags().stream()
-                        .anyMatch(personTag -> personTag.equals(predicateTag)));
+        Set<Tag> personTags = person.getTags();
+        return tags.stream().anyMatch(personTags::contains);
+    }
+
+    @Override
+    public Set<Person> findMatches(AddressBook addressBook) {
+        return addressBook.getPersonsWithAnyTag(tags);
+    }
+
+    @Override
+    public CompressedBitmap findMatchingOrdinals(AddressBook addressBook) {
+        return addressBook.getOrdinalsWithAnyTag(tags);
     }
 
     @Override
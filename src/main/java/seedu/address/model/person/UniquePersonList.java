@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since {@code Person#isSamePerson(Person)} matches on phone, email or handle, the list keeps a hash index on each of
+ * those fields so that identity checks do not need to scan the whole list, and the position of each person in the list
+ * so that a person found by those indexes is replaced without a scan.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,23 +35,44 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // identity indexes, kept in step with internalList
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    private final Map<Handle, Person> personsByHandle = new HashMap<>();
+    // the position of each person in internalList, keyed by the very instance in it
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        // checks for duplicates using isSamePerson
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        // checks for duplicates using the same fields as isSamePerson
+        return personsByPhone.containsKey(toCheck.getPhone())
+                || personsByEmail.containsKey(toCheck.getEmail())
+                || personsByHandle.containsKey(toCheck.getHandle());
     }
 
     /**
-     * Returns true if the list contains
+     * Returns true if the list contains a person other than {@code exclude} with the same identity as {@code toAdd}.
      */
     public boolean hasPersonExcluding(Person exclude, Person toAdd) {
         requireNonNull(toAdd);
-        return internalList.stream()
-                .filter(p -> p != exclude)
-                .anyMatch(p -> p.isSamePerson(toAdd));
+        return isClash(personsByPhone.get(toAdd.getPhone()), exclude)
+                || isClash(personsByEmail.get(toAdd.getEmail()), exclude)
+                || isClash(personsByHandle.get(toAdd.getHandle()), exclude);
+    }
+
+    /**
+     * Returns the position of {@code person}, the very instance in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return positions.getOrDefault(person, -1);
+    }
+
+    private static boolean isClash(Person found, Person exclude) {
+        return found != null && found != exclude;
     }
 
     /**
@@ -56,7 +84,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -67,16 +97,16 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
-
-        if (hasPersonExcluding(target, editedPerson)) {
+        Person existing = find(target);
+        if (hasPersonExcluding(existing, editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        int index = positions.remove(existing);
+        positions.put(editedPerson, index);
         internalList.set(index, editedPerson);
+        removeFromIndexes(existing);
+        addToIndexes(editedPerson);
     }
 
     /**
@@ -85,14 +115,43 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = find(toRemove);
+        int index = positions.remove(existing);
+        internalList.remove(index);
+        // the persons after the removed one each move up a position
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        removeFromIndexes(existing);
+    }
+
+    /**
+     * Returns the person in the list equal to {@code person}, found through the phone index.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    private Person find(Person person) {
+        Person existing = personsByPhone.get(person.getPhone());
+        if (existing == null || !existing.equals(person)) {
             throw new PersonNotFoundException();
         }
+        return existing;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        personsByPhone.clear();
+        personsByPhone.putAll(replacement.personsByPhone);
+        personsByEmail.clear();
+        personsByEmail.putAll(replacement.personsByEmail);
+        personsByHandle.clear();
+        personsByHandle.putAll(replacement.personsByHandle);
     }
 
     /**
@@ -101,11 +160,29 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Phone, Person> byPhone = new HashMap<>();
+        Map<Email, Person> byEmail = new HashMap<>();
+        Map<Handle, Person> byHandle = new HashMap<>();
+        for (Person person : persons) {
+            // a clash on any identity field means isSamePerson holds for some pair of persons
+            if (byPhone.putIfAbsent(person.getPhone(), person) != null
+                    || byEmail.putIfAbsent(person.getEmail(), person) != null
+                    || byHandle.putIfAbsent(person.getHandle(), person) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
         internalList.setAll(persons);
+        positions.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(persons.get(i), i);
+        }
+        personsByPhone.clear();
+        personsByPhone.putAll(byPhone);
+        personsByEmail.clear();
+        personsByEmail.putAll(byEmail);
+        personsByHandle.clear();
+        personsByHandle.putAll(byHandle);
     }
 
     /**
@@ -145,16 +222,20 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Adds {@code person} to the identity indexes.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+    private void addToIndexes(Person person) {
+        personsByPhone.put(person.getPhone(), person);
+        personsByEmail.put(person.getEmail(), person);
+        personsByHandle.put(person.getHandle(), person);
+    }
+
+    /**
+     * Removes {@code person} from the identity indexes, leaving entries that now belong to other persons untouched.
+     */
+    private void removeFromIndexes(Person person) {
+        personsByPhone.remove(person.getPhone(), person);
+        personsByEmail.remove(person.getEmail(), person);
+        personsByHandle.remove(person.getHandle(), person);
     }
 }
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Handle;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Builds an address book from the records of a data file, taken in the order of the file once each has been converted
+ * into a person, or found invalid.
+ * Every invalid record, and every record that duplicates an earlier one, is kept, so that all of them are reported
+ * together rather than only the first one found.
+ */
+class AddressBookAssembler {
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<String> problems = new ArrayList<>();
+    private boolean hasDuplicates = false;
+
+    // record number (1-based) of the person holding each identity field
+    private final Map<Phone, Integer> phoneOwners = new HashMap<>();
+    private final Map<Email, Integer> emailOwners = new HashMap<>();
+    private final Map<Handle, Integer> handleOwners = new HashMap<>();
+
+    /**
+     * Adds the person converted from the record numbered {@code recordNumber}, unless it duplicates an earlier one.
+     */
+    public void addPerson(int recordNumber, Person person) {
+        Integer owner = findOwner(person);
+        if (owner != null) {
+            problems.add(String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECORD, recordNumber, owner));
+            hasDuplicates = true;
+            return;
+        }
+        phoneOwners.put(person.getPhone(), recordNumber);
+        emailOwners.put(person.getEmail(), recordNumber);
+        handleOwners.put(person.getHandle(), recordNumber);
+        persons.add(person);
+    }
+
+    /**
+     * Records that the record numbered {@code recordNumber} is invalid, for the reason {@code message}.
+     */
+    public void addInvalidRecord(int recordNumber, String message) {
+        problems.add(String.format(JsonSerializableAddressBook.MESSAGE_INVALID_RECORD, recordNumber, message));
+    }
+
+    /**
+     * Returns the persons added, in the order they were added.
+     *
+     * @throws IllegalValueException naming every invalid and duplicate record, if there were any.
+     */
+    public List<Person> getPersons() throws IllegalValueException {
+        if (!problems.isEmpty()) {
+            List<String> lines = new ArrayList<>(problems);
+            if (hasDuplicates) {
+                lines.add(0, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            throw new IllegalValueException(String.join("\n", lines));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the address book of the persons added.
+     *
+     * @throws IllegalValueException naming every invalid and duplicate record, if there were any.
+     */
+    public AddressBook toAddressBook() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getPersons());
+        return addressBook;
+    }
+
+    /**
+     * Returns the record number of an earlier person with the same identity as {@code person}, or null if none.
+     */
+    private Integer findOwner(Person person) {
+        Integer owner = phoneOwners.get(person.getPhone());
+        if (owner == null) {
+            owner = emailOwners.get(person.getEmail());
+        }
+        if (owner == null) {
+            owner = handleOwners.get(person.getHandle());
+        }
+        return owner;
+    }
+}
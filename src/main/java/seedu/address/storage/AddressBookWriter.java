@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves snapshots of the address book on a background thread, so that the thread changing the address book never
+ * waits for the data file to be written.
+ * Only the latest snapshot submitted is kept waiting: snapshots submitted while a write is in progress replace one
+ * another, so a burst of changes is saved with a single write of the final state.
+ * Write errors are passed to the error handler on the writer thread.
+ */
+public class AddressBookWriter implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookWriter.class);
+
+    private final AddressBookStorage storage;
+    private final Thread thread;
+    private final Object lock = new Object();
+    private volatile Consumer<IOException> errorHandler = error -> { };
+    private volatile boolean hasLastWriteFailed;
+
+    // guarded by lock
+    private ReadOnlyAddressBook pending;
+    private boolean isWriting;
+    private boolean isClosed;
+
+    /**
+     * Creates a writer that saves to {@code storage}, and starts its thread.
+     */
+    public AddressBookWriter(AddressBookStorage storage) {
+        this.storage = requireNonNull(storage);
+        thread = new Thread(this::writeUntilClosed, "address-book-writer");
+        // the thread must not keep the application running; close() is what waits for the last write
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Sets the handler of the errors from writing the data file. It is called on the writer thread.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        this.errorHandler = requireNonNull(errorHandler);
+    }
+
+    /**
+     * Takes a snapshot of the persons of {@code addressBook} and queues it to be saved, in place of any snapshot that
+     * is still waiting. The snapshot is taken on the calling thread, which can go on to change the address book.
+     * @throws IllegalStateException if this writer has been closed
+     */
+    public void submit(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // persons are immutable, so copying the list is enough to keep the snapshot from changing
+        ReadOnlyAddressBook snapshot = new Snapshot(List.copyOf(addressBook.getPersonList()));
+        synchronized (lock) {
+            if (isClosed) {
+                throw new IllegalStateException("The address book writer has been closed");
+            }
+            pending = snapshot;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Returns true if the last snapshot written could not be saved, and no later one has been saved since.
+     */
+    public boolean hasLastWriteFailed() {
+        return hasLastWriteFailed;
+    }
+
+    /**
+     * Waits until every snapshot submitted so far has been written, or has failed to be.
+     */
+    public void flush() {
+        synchronized (lock) {
+            while (pending != null || isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the snapshot that is still waiting, if any, and stops the writer thread.
+     * No more snapshots can be submitted afterwards.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            isClosed = true;
+            lock.notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeUntilClosed() {
+        while (true) {
+            ReadOnlyAddressBook snapshot;
+            synchronized (lock) {
+                while (pending == null && !isClosed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        // only close() stops the thread, so that no submitted snapshot is lost
+                        logger.warning("Address book writer interrupted while waiting");
+                    }
+                }
+                if (pending == null) {
+                    return;
+                }
+                snapshot = pending;
+                pending = null;
+                isWriting = true;
+            }
+
+            write(snapshot);
+
+            synchronized (lock) {
+                isWriting = false;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private void write(ReadOnlyAddressBook snapshot) {
+        try {
+            storage.saveAddressBook(snapshot);
+            hasLastWriteFailed = false;
+        } catch (IOException e) {
+            hasLastWriteFailed = true;
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            errorHandler.accept(e);
+        } catch (RuntimeException e) {
+            // the thread must survive, or every later save would be lost without a word
+            hasLastWriteFailed = true;
+            logger.severe("Unexpected error while saving address book " + StringUtil.getDetails(e));
+            errorHandler.accept(new IOException(e.getMessage(), e));
+        }
+    }
+
+    /**
+     * The persons of an address book at the time it was submitted.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        Snapshot(List<Person> persons) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileSyncer;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Closeness;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Handle;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file holds, in order:
+ * <ul>
+ *     <li>a header of {@link #HEADER_SIZE} bytes: the magic number {@link #MAGIC}, the {@link #FORMAT_VERSION}, the
+ *     number of persons, the number of tag references and the size of the string table in bytes;</li>
+ *     <li>a record of {@link #RECORD_SIZE} bytes per person: the offsets in the string table of the name, email,
+ *     address, handle and profile picture, the phone number as an int, the index of the person's first tag
+ *     reference, the number of tags as a short, the closeness level as a byte and a byte of padding;</li>
+ *     <li>the tag references, each the offset in the string table of a tag name;</li>
+ *     <li>the string table, each string stored once as its length in bytes followed by its UTF-8 bytes;</li>
+ *     <li>a CRC-32 checksum of everything before it.</li>
+ * </ul>
+ * All numbers are big-endian. The file is read into memory in one go, and its records are run through the same
+ * checks as those of the json file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x41424B42; // "ABKB"
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 20;
+    public static final int RECORD_SIZE = 32;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "%1$s is not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "%1$s is in version %2$d of the binary format, "
+            + "but only version %3$d can be read";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "%1$s is corrupted: its checksum does not match";
+    public static final String MESSAGE_CORRUPTED_FILE = "%1$s is corrupted: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int CHECKSUM_SIZE = 4;
+
+    private Path filePath;
+    private final FileSyncer fileSyncer;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a storage of the address book at {@code filePath} that forces saves to the disk by {@code fsyncPolicy}.
+     */
+    public BinaryAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        this.filePath = filePath;
+        this.fileSyncer = new FileSyncer(fsyncPolicy);
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the json file at {@code jsonFilePath}: the same path with
+     * the extension {@link #FILE_EXTENSION} in place of that of the json file.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath, "it is too large"));
+            }
+            // read onto the heap rather than mapped, as some platforms, such as Windows, cannot replace a file while it
+            // is mapped, and a mapping is only released once it is garbage collected
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // keep reading until the whole file is in the buffer
+            }
+            buffer.flip();
+            return Optional.of(new Reader(filePath, buffer).read().toAddressBook());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced in one step, so a crash while saving leaves the last address book saved.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        FileUtil.writeToFileAtomically(filePath, out -> write(persons, out), fileSyncer.shouldSyncReplacing(filePath));
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} in the binary format.
+     */
+    static void write(List<Person> persons, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        int tagRefCount = 0;
+        for (Person person : persons) {
+            tagRefCount += person.getTags().size();
+        }
+        ByteBuffer records = ByteBuffer.allocate(persons.size() * RECORD_SIZE);
+        ByteBuffer tagRefs = ByteBuffer.allocate(tagRefCount * 4);
+        for (Person person : persons) {
+            records.putInt(strings.add(person.getName().fullName))
+                    .putInt(strings.add(person.getEmail().value))
+                    .putInt(strings.add(person.getAddress().value))
+                    .putInt(strings.add(person.getHandle().teleHandle))
+                    .putInt(strings.add(person.getProfilePicture()))
+                    .putInt(Integer.parseInt(person.getPhone().value))
+                    .putInt(tagRefs.position() / 4)
+                    .putShort((short) person.getTags().size())
+                    .put((byte) person.getCloseness().closenessLevel)
+                    .put((byte) 0); // padding to the record size
+            for (Tag tag : person.getTags()) {
+                tagRefs.putInt(strings.add(tag.tagName));
+            }
+        }
+
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, checksum));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(persons.size());
+        data.writeInt(tagRefCount);
+        data.writeInt(strings.size());
+        data.write(records.array());
+        data.write(tagRefs.array());
+        strings.writeTo(data);
+        data.flush();
+        // the checksum is not part of what it covers, so it is written past the checked stream
+        new DataOutputStream(out).writeInt((int) checksum.getValue());
+    }
+
+    /**
+     * The strings of a file being written, each stored once, and the offset in the table of each.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream data = new DataOutputStream(bytes);
+
+        /**
+         * Returns the offset of {@code string} in the table, adding it if it is not in the table yet.
+         */
+        int add(String string) throws IOException {
+            Integer offset = offsets.get(string);
+            if (offset == null) {
+                offset = bytes.size();
+                byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(encoded.length);
+                data.write(encoded);
+                offsets.put(string, offset);
+            }
+            return offset;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            bytes.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads the persons of a binary file that has been read into a heap buffer.
+     */
+    private static class Reader {
+        private final Path filePath;
+        private final ByteBuffer buffer;
+        private final Map<Integer, String> decodedStrings = new HashMap<>();
+        private final Map<Integer, Tag> tagsByOffset = new HashMap<>();
+        private int personCount;
+        private int tagRefCount;
+        private int tagRefsStart;
+        private int stringTableStart;
+        private int stringTableSize;
+
+        Reader(Path filePath, ByteBuffer buffer) {
+            this.filePath = filePath;
+            this.buffer = buffer;
+        }
+
+        AddressBookAssembler read() throws IOException {
+            readHeader();
+            AddressBookAssembler assembler = new AddressBookAssembler();
+            for (int i = 0; i < personCount; i++) {
+                int recordNumber = i + 1;
+                try {
+                    assembler.addPerson(recordNumber, readPerson(HEADER_SIZE + i * RECORD_SIZE));
+                } catch (IllegalValueException ive) {
+                    assembler.addInvalidRecord(recordNumber, ive.getMessage());
+                }
+            }
+            return assembler;
+        }
+
+        /**
+         * Checks the header and the checksum, and finds the sections of the file.
+         */
+        private void readHeader() throws IOException {
+            int size = buffer.limit();
+            if (size < HEADER_SIZE + CHECKSUM_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException(String.format(MESSAGE_NOT_BINARY_FILE, filePath));
+            }
+            int version = buffer.getInt(4);
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, filePath, version,
+                        FORMAT_VERSION));
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate().position(0).limit(size - CHECKSUM_SIZE));
+            if ((int) checksum.getValue() != buffer.getInt(size - CHECKSUM_SIZE)) {
+                throw new IOException(String.format(MESSAGE_CHECKSUM_MISMATCH, filePath));
+            }
+
+            personCount = buffer.getInt(8);
+            tagRefCount = buffer.getInt(12);
+            stringTableSize = buffer.getInt(16);
+            long expectedSize = (long) HEADER_SIZE + (long) personCount * RECORD_SIZE + (long) tagRefCount * 4
+                    + stringTableSize + CHECKSUM_SIZE;
+            if (personCount < 0 || tagRefCount < 0 || stringTableSize < 0 || expectedSize != size) {
+                throw corrupted("its sections do not add up to its size");
+            }
+            tagRefsStart = HEADER_SIZE + personCount * RECORD_SIZE;
+            stringTableStart = tagRefsStart + tagRefCount * 4;
+        }
+
+        /**
+         * Returns the person of the record at {@code position}, after the same checks of its fields as a json record.
+         */
+        private Person readPerson(int position) throws IOException, IllegalValueException {
+            String name = readString(buffer.getInt(position));
+            String email = readString(buffer.getInt(position + 4));
+            String address = readString(buffer.getInt(position + 8));
+            String handle = readString(buffer.getInt(position + 12));
+            String profilePicture = readString(buffer.getInt(position + 16));
+            String phone = String.valueOf(buffer.getInt(position + 20));
+            int firstTagRef = buffer.getInt(position + 24);
+            int tagCount = Short.toUnsignedInt(buffer.getShort(position + 28));
+            String closeness = String.valueOf(buffer.get(position + 30));
+            if (firstTagRef < 0 || firstTagRef + tagCount > tagRefCount) {
+                throw corrupted("a person's tags are out of range");
+            }
+
+            // each field is checked once, by its constructor, rather than again beforehand as for a json record
+            try {
+                Set<Tag> tags = new HashSet<>();
+                for (int i = 0; i < tagCount; i++) {
+                    tags.add(readTag(buffer.getInt(tagRefsStart + (firstTagRef + i) * 4)));
+                }
+                return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), tags,
+                        new Handle(handle), profilePicture, new Closeness(closeness));
+            } catch (IllegalArgumentException iae) {
+                throw new IllegalValueException(iae.getMessage());
+            }
+        }
+
+        /**
+         * Returns the tag named by the string at {@code offset}, which the persons sharing it share.
+         */
+        private Tag readTag(int offset) throws IOException {
+            Tag tag = tagsByOffset.get(offset);
+            if (tag == null) {
+                tag = new Tag(readString(offset));
+                tagsByOffset.put(offset, tag);
+            }
+            return tag;
+        }
+
+        /**
+         * Returns the string at {@code offset} in the string table, decoding each string only once.
+         */
+        private String readString(int offset) throws IOException {
+            String string = decodedStrings.get(offset);
+            if (string != null) {
+                return string;
+            }
+            if (offset < 0 || offset > stringTableSize - 4) {
+                throw corrupted("a string is out of range");
+            }
+            int length = buffer.getInt(stringTableStart + offset);
+            if (length < 0 || length > stringTableSize - offset - 4) {
+                throw corrupted("a string is out of range");
+            }
+            byte[] encoded = new byte[length];
+            buffer.get(stringTableStart + offset + 4, encoded);
+            string = new String(encoded, StandardCharsets.UTF_8);
+            decodedStrings.put(offset, string);
+            return string;
+        }
+
+        private IOException corrupted(String reason) {
+            return new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath, reason));
+        }
+    }
+}
@@ -1,10 +1,7 @@
 package seedu.address.storage;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -15,15 +12,36 @@ import seedu.address.commons.core.LogsCenter;
 
 /**
  * Methods in this class are called to return the previous commands.
- * Commands are stored into the storage Path object
+ * Commands are kept newest last in a ring buffer, which grows up to the maximum size and then overwrites the oldest
+ * command, so adding a command and stepping through the history take constant time.
+ * Each command is appended to the storage as it is pushed. The commands evicted since are dropped from the storage
+ * once there are as many of them as the history holds at most, so the storage stays within twice that size.
+ * The commands are also indexed by {@link CommandHistorySearchIndex}, so that searching for the newest command
+ * containing some text, as Ctrl+R does, only checks the commands that share its grams, and by
+ * {@link CommandSuggestionTrie}, so that the commands suggested for what is typed are ranked by how often and how
+ * recently they were used without going through the history.
  */
 public class CommandHistory {
+    public static final int SUGGESTION_LIMIT = 8;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
-    private final Deque<String> entries = new ArrayDeque<>();
+    private static final int INITIAL_CAPACITY = 16;
+
     private final int maxSize;
     private final CommandHistoryStorage storage;
+    private final CommandHistorySearchIndex searchIndex = new CommandHistorySearchIndex();
+    private final CommandSuggestionTrie suggestionTrie = new CommandSuggestionTrie(SUGGESTION_LIMIT);
+    private String[] entries;
+    private int oldest = 0;
+    private int size = 0;
+    // the number of commands in the storage, including those evicted since it was last compacted
+    private int storedCount = 0;
     private int index = -1;
     private String snapshotBeforeNav = "";
+    // the sequence number that the next command added gets, which is the number of commands added so far
+    private int nextSequenceNumber = 0;
+    // the sequence number of the command last found by searching, or -1 if not searching
+    private int searchPosition = -1;
 
     /**
      * Initiates the CommandHistory object
@@ -32,14 +50,13 @@ public class CommandHistory {
     public CommandHistory(int maxSize, CommandHistoryStorage storage) {
         this.maxSize = Math.max(1, maxSize);
         this.storage = storage;
+        this.entries = new String[Math.min(this.maxSize, INITIAL_CAPACITY)];
         try {
             List<String> oldestFirst = storage.readCommandHistory().orElse(List.of());
-            for (String cmd : oldestFirst) {
-                String s = cmd.strip();
-                if (!s.isEmpty()) {
-                    entries.addFirst(s); // newest ends up at front
-                }
-            }
+            storedCount = oldestFirst.size();
+            List<String> commands = oldestFirst.stream().map(String::strip).filter(s -> !s.isEmpty()).toList();
+            // only the newest commands fit, so the older ones are not added just to be evicted
+            commands.subList(Math.max(0, commands.size() - this.maxSize), commands.size()).forEach(this::add);
         } catch (IOException e) {
             logger.info("File to store command history does not exist");
         }
@@ -53,15 +70,21 @@ public class CommandHistory {
         if (s.isEmpty()) {
             return;
         }
-        if (!entries.isEmpty() && entries.peekFirst().equals(s)) {
+        if (size > 0 && get(0).equals(s)) {
             return;
         }
-        entries.addFirst(s);
-        while (entries.size() > maxSize) {
-            entries.removeLast();
+        add(s);
+        try {
+            storage.appendCommand(s);
+            storedCount++;
+        } catch (IOException e) {
+            logger.info("Failed to append to the command history file: " + e);
+        }
+        if (storedCount - size >= maxSize) {
+            save();
         }
-        save();
         resetNav();
+        resetSearch();
         snapshotBeforeNav = "";
     }
 
@@ -79,21 +102,21 @@ public class CommandHistory {
      * Go one step older. Returns Optional.empty() if no entries
      */
     public Optional<String> up() {
-        if (entries.isEmpty()) {
+        if (size == 0) {
             return Optional.empty();
         }
         if (index == -1) {
             beginNavigation("");
         }
-        index = Math.min(index + 1, entries.size());
-        return Optional.of(entries.stream().skip(index - 1).findFirst().orElse(snapshotBeforeNav));
+        index = Math.min(index + 1, size);
+        return Optional.of(get(index - 1));
     }
 
     /**
      * Go one step newer. When leaving history, restores the snapshot text
      */
     public Optional<String> down() {
-        if (entries.isEmpty()) {
+        if (size == 0) {
             return Optional.of(snapshotBeforeNav);
         }
         if (index <= 1) {
@@ -102,7 +125,7 @@ public class CommandHistory {
             return Optional.of(snap); // returns whatever was written before
         }
         index -= 1;
-        return Optional.of(entries.stream().skip(index - 1).findFirst().orElse(snapshotBeforeNav));
+        return Optional.of(get(index - 1));
     }
 
     /**
@@ -113,21 +136,111 @@ public class CommandHistory {
     }
 
     /**
-     * Saves the updated entries into the storage
+     * Returns the newest command that contains {@code query}, ignoring case, and is no newer than the command last
+     * found by searching, or any command if not searching yet.
+     * The search continues from the command found, so typing more of the query keeps it if it still matches.
+     * Returns Optional.empty() if there is no such command or the query is empty, and the search stays where it was.
+     */
+    public Optional<String> search(String query) {
+        int newest = searchPosition == -1 ? nextSequenceNumber - 1 : searchPosition;
+        return searchFrom(query, newest);
+    }
+
+    /**
+     * Similar to {@link #search(String)}, but only for the commands older than the command last found by searching.
+     */
+    public Optional<String> searchOlder(String query) {
+        int newest = searchPosition == -1 ? nextSequenceNumber - 1 : searchPosition - 1;
+        return searchFrom(query, newest);
+    }
+
+    /**
+     * Ends the search, so that the next search starts from the newest command again.
+     */
+    public void resetSearch() {
+        searchPosition = -1;
+    }
+
+    private Optional<String> searchFrom(String query, int newest) {
+        if (query == null || query.isEmpty()) {
+            return Optional.empty();
+        }
+        int found = searchIndex.findNewest(query, nextSequenceNumber - size, newest, this::getBySequenceNumber);
+        if (found == -1) {
+            return Optional.empty();
+        }
+        searchPosition = found;
+        return Optional.of(getBySequenceNumber(found));
+    }
+
+    /**
+     * Returns up to {@code SUGGESTION_LIMIT} distinct commands in the history that start with {@code prefix}, ignoring
+     * case, those used most often and most recently first.
+     * Each use of a command counts half as much as a use {@code CommandSuggestionTrie.HALF_LIFE} commands later.
+     */
+    public List<String> suggest(String prefix) {
+        return suggestionTrie.get(prefix == null ? "" : prefix);
+    }
+
+    /**
+     * Rewrites the storage with the commands in the history, dropping those evicted since it was last rewritten.
+     * Does nothing if there are none.
      */
     public void save() {
+        if (storedCount == size) {
+            return;
+        }
         try {
             storage.saveCommandHistory(toOldestFirstList());
+            storedCount = size;
         } catch (IOException e) {
             logger.info("File to store command history does not exist");
         }
     }
 
+    /**
+     * Returns the command {@code age} commands older than the newest one, which is of age 0.
+     */
+    private String get(int age) {
+        return entries[(oldest + size - 1 - age) % entries.length];
+    }
+
+    private String getBySequenceNumber(int sequenceNumber) {
+        return get(nextSequenceNumber - 1 - sequenceNumber);
+    }
+
+    /**
+     * Adds {@code command} as the newest command, evicting the oldest one if the history is full.
+     */
+    private void add(String command) {
+        if (size == entries.length && size < maxSize) {
+            String[] grown = new String[Math.min(maxSize, entries.length * 2)];
+            for (int i = 0; i < size; i++) {
+                grown[i] = entries[(oldest + i) % entries.length];
+            }
+            entries = grown;
+            oldest = 0;
+        }
+        if (size == entries.length) {
+            searchIndex.removeOldest(nextSequenceNumber - size, entries[oldest]);
+            suggestionTrie.removeOldest(nextSequenceNumber - size, entries[oldest]);
+            entries[oldest] = command;
+            oldest = (oldest + 1) % entries.length;
+        } else {
+            entries[(oldest + size) % entries.length] = command;
+            size++;
+        }
+        searchIndex.add(nextSequenceNumber, command);
+        suggestionTrie.add(nextSequenceNumber, command);
+        nextSequenceNumber++;
+    }
+
     private List<String> toOldestFirstList() {
-        List<String> list = new ArrayList<>(entries);
-        Collections.reverse(list);
+        List<String> list = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            list.add(get(i));
+        }
         return list;
     }
 
 }
-
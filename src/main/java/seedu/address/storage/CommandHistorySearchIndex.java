@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * An inverted index from each gram (sequence of up to three characters) of the lower-cased commands in a
+ * {@link CommandHistory} to the sequence numbers of the commands that contain it, oldest first.
+ * The commands containing a substring of up to three characters are exactly those indexed under it. A command that
+ * contains a longer substring must contain every trigram of the substring, so the newest command containing it is found
+ * by checking the commands under its rarest trigram from the newest, rather than every command.
+ * Commands are added newest last and removed oldest first, so each list of sequence numbers only changes at its ends.
+ */
+class CommandHistorySearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, SequenceNumbers> sequenceNumbersByGram = new HashMap<>();
+
+    /**
+     * Indexes {@code command}, which is newer than every command indexed, under {@code sequenceNumber}.
+     */
+    void add(int sequenceNumber, String command) {
+        requireNonNull(command);
+        for (String gram : gramsOf(command.toLowerCase(), 1)) {
+            sequenceNumbersByGram.computeIfAbsent(gram, unused -> new SequenceNumbers()).addLast(sequenceNumber);
+        }
+    }
+
+    /**
+     * Removes {@code command}, which is the oldest command indexed, under {@code sequenceNumber}.
+     */
+    void removeOldest(int sequenceNumber, String command) {
+        requireNonNull(command);
+        for (String gram : gramsOf(command.toLowerCase(), 1)) {
+            SequenceNumbers sequenceNumbers = sequenceNumbersByGram.get(gram);
+            if (sequenceNumbers == null) {
+                continue;
+            }
+            sequenceNumbers.removeFirst(sequenceNumber);
+            if (sequenceNumbers.isEmpty()) {
+                sequenceNumbersByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the sequence number of the newest command, of those from {@code oldest} to {@code newest}, that contains
+     * {@code substring} ignoring case, or -1 if there is none.
+     *
+     * @param commandOf the command of each sequence number from {@code oldest} to {@code newest}.
+     */
+    int findNewest(String substring, int oldest, int newest, IntFunction<String> commandOf) {
+        requireNonNull(substring);
+        String lowerCaseSubstring = substring.toLowerCase();
+        if (lowerCaseSubstring.isEmpty()) {
+            return -1;
+        }
+
+        SequenceNumbers rarest = null;
+        // the trigrams of the substring, or the substring itself if it is shorter
+        for (String gram : gramsOf(lowerCaseSubstring, GRAM_LENGTH)) {
+            SequenceNumbers sequenceNumbers = sequenceNumbersByGram.get(gram);
+            if (sequenceNumbers == null) {
+                return -1;
+            }
+            if (rarest == null || sequenceNumbers.size() < rarest.size()) {
+                rarest = sequenceNumbers;
+            }
+        }
+        for (int i = rarest.indexOfLastAtMost(newest); i >= rarest.start; i--) {
+            int sequenceNumber = rarest.values[i];
+            if (sequenceNumber < oldest) {
+                break;
+            }
+            // a substring that is itself a gram is contained by every command indexed under it
+            if (lowerCaseSubstring.length() <= GRAM_LENGTH
+                    || commandOf.apply(sequenceNumber).toLowerCase().contains(lowerCaseSubstring)) {
+                return sequenceNumber;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the distinct substrings of {@code text} from {@code minLength} to {@code GRAM_LENGTH} characters long,
+     * or {@code text} itself if it is shorter than {@code minLength}.
+     */
+    private static Set<String> gramsOf(String text, int minLength) {
+        if (text.length() < minLength) {
+            return Set.of(text);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int length = minLength; length <= GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Ascending sequence numbers, added at the end and removed from the start.
+     */
+    private static class SequenceNumbers {
+        private int[] values = new int[2];
+        private int start = 0;
+        private int end = 0;
+
+        int size() {
+            return end - start;
+        }
+
+        boolean isEmpty() {
+            return start == end;
+        }
+
+        void addLast(int sequenceNumber) {
+            if (end == values.length) {
+                // the array is only grown if at most half of it holds removed numbers, and is reused otherwise
+                int[] moved = start >= values.length / 2 ? values : new int[values.length * 2];
+                System.arraycopy(values, start, moved, 0, size());
+                values = moved;
+                end -= start;
+                start = 0;
+            }
+            values[end++] = sequenceNumber;
+        }
+
+        void removeFirst(int sequenceNumber) {
+            if (start < end && values[start] == sequenceNumber) {
+                start++;
+            }
+        }
+
+        /**
+         * Returns the position of the largest sequence number that is at most {@code sequenceNumber}, or
+         * {@code start - 1} if there is none.
+         */
+        int indexOfLastAtMost(int sequenceNumber) {
+            int found = Arrays.binarySearch(values, start, end, sequenceNumber);
+            return found >= 0 ? found : -found - 2;
+        }
+    }
+}
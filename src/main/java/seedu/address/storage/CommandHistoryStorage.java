@@ -34,5 +34,11 @@ public interface CommandHistoryStorage {
      * @throws IOException
      */
     void saveCommandHistory(List<String> oldestFirst) throws IOException;
+    /**
+     * Appends a command to the commands in the storage, as the newest one
+     * @param command
+     * @throws IOException
+     */
+    void appendCommand(String command) throws IOException;
 
 }
@@ -0,0 +1,281 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A radix trie of the lower-cased commands in a {@link CommandHistory}, in which every node keeps the commands of
+ * highest frecency below it, highest first, so that the suggestions for a prefix are read off the node that the
+ * prefix ends at, however many commands there are.
+ * The frecency of a command adds up its uses in the history, each weighing half as much as a use {@code HALF_LIFE}
+ * commands later, so a command used often ranks above one used once a little more recently. Every use makes the same
+ * command weigh more, so it can only move the command up the nodes above it, whereas evicting a use from the history
+ * makes the nodes above it that suggest the command choose again from their children.
+ * Commands differing only in case are one suggestion, spelt as it was last used.
+ */
+class CommandSuggestionTrie {
+
+    public static final int HALF_LIFE = 100;
+
+    // the weights are kept relative to the use at baseSequenceNumber, which is moved up before they overflow
+    private static final int MAX_WEIGHT_EXPONENT = 512;
+    private static final Comparator<Suggestion> HIGHEST_FRECENCY_FIRST = Comparator
+            .comparingDouble((Suggestion suggestion) -> suggestion.frecency).reversed()
+            .thenComparing(Comparator.comparingInt((Suggestion suggestion) -> suggestion.lastUsed).reversed());
+
+    private final int limit;
+    private final Node root = new Node("", null);
+    private final Map<String, Suggestion> suggestionsByKey = new HashMap<>();
+    private int baseSequenceNumber = 0;
+
+    /**
+     * Creates an empty trie that suggests up to {@code limit} commands for each prefix.
+     */
+    CommandSuggestionTrie(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Adds a use of {@code command}, which is newer than every use added, under {@code sequenceNumber}.
+     */
+    void add(int sequenceNumber, String command) {
+        requireNonNull(command);
+        if (sequenceNumber - baseSequenceNumber > MAX_WEIGHT_EXPONENT * HALF_LIFE) {
+            double scale = Math.pow(2, -(double) (sequenceNumber - baseSequenceNumber) / HALF_LIFE);
+            suggestionsByKey.values().forEach(suggestion -> suggestion.frecency *= scale);
+            baseSequenceNumber = sequenceNumber;
+        }
+
+        String key = command.toLowerCase();
+        Suggestion suggestion = suggestionsByKey.get(key);
+        if (suggestion == null) {
+            suggestion = new Suggestion(insert(key));
+            suggestionsByKey.put(key, suggestion);
+        }
+        suggestion.command = command;
+        suggestion.uses++;
+        suggestion.frecency += weightOf(sequenceNumber);
+        suggestion.lastUsed = sequenceNumber;
+        for (Node node = suggestion.node; node != null; node = node.parent) {
+            node.promote(suggestion, limit);
+        }
+    }
+
+    /**
+     * Removes the use of {@code command} under {@code sequenceNumber}, which is the oldest use added.
+     */
+    void removeOldest(int sequenceNumber, String command) {
+        requireNonNull(command);
+        String key = command.toLowerCase();
+        Suggestion suggestion = suggestionsByKey.get(key);
+        if (suggestion == null) {
+            return;
+        }
+
+        Node changed = suggestion.node;
+        suggestion.uses--;
+        if (suggestion.uses == 0) {
+            suggestionsByKey.remove(key);
+            changed = delete(suggestion.node);
+        } else {
+            suggestion.frecency = Math.max(0, suggestion.frecency - weightOf(sequenceNumber));
+        }
+        // a node whose top suggestions do not include the suggestion is unaffected, and so are the nodes above it
+        for (Node node = changed; node != null && node.hasInTop(suggestion); node = node.parent) {
+            node.chooseTop(limit);
+        }
+    }
+
+    /**
+     * Returns the commands starting with {@code prefix}, ignoring case, of highest frecency first.
+     */
+    List<String> get(String prefix) {
+        requireNonNull(prefix);
+        String key = prefix.toLowerCase();
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.childStartingWith(key.charAt(matched));
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, key, matched);
+            if (matched + common < key.length() && common < child.label.length()) {
+                return List.of();
+            }
+            node = child;
+            matched += common;
+        }
+        List<String> commands = new ArrayList<>(node.top.length);
+        for (Suggestion suggestion : node.top) {
+            commands.add(suggestion.command);
+        }
+        return commands;
+    }
+
+    /**
+     * Returns the weight of the use under {@code sequenceNumber}, relative to the use at the base sequence number.
+     */
+    private double weightOf(int sequenceNumber) {
+        return Math.pow(2, (double) (sequenceNumber - baseSequenceNumber) / HALF_LIFE);
+    }
+
+    /**
+     * Returns the node of {@code key}, adding it and splitting the edge it branches off, if needed.
+     */
+    private Node insert(String key) {
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.childStartingWith(key.charAt(matched));
+            if (child == null) {
+                Node leaf = new Node(key.substring(matched), node);
+                node.children.add(leaf);
+                return leaf;
+            }
+            int common = commonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                child = child.splitAt(common);
+            }
+            node = child;
+            matched += common;
+        }
+        return node;
+    }
+
+    /**
+     * Removes the suggestion of {@code node}, and the node itself if nothing is left below it, merging the edges
+     * around the nodes left with nothing of their own and a single child.
+     * Returns the lowest node whose top suggestions may have changed.
+     */
+    private Node delete(Node node) {
+        node.suggestion = null;
+        Node changed = node;
+        if (node.children.isEmpty()) {
+            changed = node.parent;
+            changed.children.remove(node);
+        }
+        if (changed != root && changed.suggestion == null && changed.children.size() == 1) {
+            Node onlyChild = changed.children.get(0);
+            onlyChild.label = changed.label + onlyChild.label;
+            onlyChild.parent = changed.parent;
+            changed.parent.children.set(changed.parent.children.indexOf(changed), onlyChild);
+            // the only child already has the same top suggestions as the node it replaces
+            changed = onlyChild.parent;
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the number of characters from the start of {@code label} that are the same as those of {@code key}
+     * from {@code offset}.
+     */
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(offset + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * A command in the trie and its frecency.
+     */
+    private static class Suggestion {
+        private final Node node;
+        private String command;
+        private int uses = 0;
+        private double frecency = 0;
+        private int lastUsed;
+
+        Suggestion(Node node) {
+            this.node = node;
+            node.suggestion = this;
+        }
+    }
+
+    /**
+     * A node of the trie, reached by the characters of the edges from the root.
+     */
+    private static class Node {
+        private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+        private final List<Node> children = new ArrayList<>(2);
+        private String label;
+        private Node parent;
+        private Suggestion suggestion;
+        private Suggestion[] top = NO_SUGGESTIONS;
+
+        Node(String label, Node parent) {
+            this.label = label;
+            this.parent = parent;
+        }
+
+        Node childStartingWith(char c) {
+            for (Node child : children) {
+                if (child.label.charAt(0) == c) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Splits the edge to this node after {@code length} characters, and returns the node added there.
+         */
+        Node splitAt(int length) {
+            Node middle = new Node(label.substring(0, length), parent);
+            parent.children.set(parent.children.indexOf(this), middle);
+            label = label.substring(length);
+            parent = middle;
+            middle.children.add(this);
+            middle.top = top.clone();
+            return middle;
+        }
+
+        boolean hasInTop(Suggestion suggestion) {
+            return Arrays.asList(top).contains(suggestion);
+        }
+
+        /**
+         * Updates the top suggestions after {@code changed}, which is below this node, has gained frecency.
+         */
+        void promote(Suggestion changed, int limit) {
+            int position = Arrays.asList(top).indexOf(changed);
+            if (position == -1) {
+                if (top.length == limit && HIGHEST_FRECENCY_FIRST.compare(changed, top[limit - 1]) > 0) {
+                    return;
+                }
+                position = Math.min(top.length, limit - 1);
+                top = Arrays.copyOf(top, position + 1);
+            }
+            while (position > 0 && HIGHEST_FRECENCY_FIRST.compare(changed, top[position - 1]) < 0) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = changed;
+        }
+
+        /**
+         * Chooses the top suggestions again from the suggestion of this node and the top suggestions of its children.
+         */
+        void chooseTop(int limit) {
+            List<Suggestion> candidates = new ArrayList<>();
+            if (suggestion != null) {
+                candidates.add(suggestion);
+            }
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(HIGHEST_FRECENCY_FIRST);
+            top = candidates.subList(0, Math.min(limit, candidates.size())).toArray(NO_SUGGESTIONS);
+        }
+    }
+}
@@ -3,12 +3,15 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.util.FileUtil;
+
 
 /**
  * A file-backed implementation of {@link CommandHistoryStorage}
@@ -43,9 +46,23 @@ public class FileCommandHistoryStorage implements CommandHistoryStorage {
     @Override
     public void saveCommandHistory(List<String> oldestFirst) throws IOException {
         requireNonNull(oldestFirst);
-        Files.createDirectories(filePath.getParent());
-        Files.write(filePath, oldestFirst,
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            for (String command : oldestFirst) {
+                out.write((command + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the line of {@code command} is written, at the end of the file.
+     */
+    @Override
+    public void appendCommand(String command) throws IOException {
+        requireNonNull(command);
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.writeString(filePath, command + "\n", StandardCharsets.UTF_8,
                 StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING);
+                StandardOpenOption.APPEND);
     }
 }
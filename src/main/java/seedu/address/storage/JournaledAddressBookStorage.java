@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileSyncer;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk, together with a journal of the changes
+ * made since the json file was last written.
+ * A save appends the change from the last save to the journal, which costs as much as the change rather than the
+ * whole address book. The json file is rewritten, and the journal emptied, once the journal reaches a number of
+ * entries or bytes, which also bounds the work of replaying the journal when the address book is read.
+ * Saves to a file other than the one given at construction write the whole address book, as
+ * {@link JsonAddressBookStorage} does.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_CHECKPOINT_ENTRIES = 500;
+    public static final long DEFAULT_CHECKPOINT_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final FileSyncer fileSyncer;
+    private final boolean isPrettyPrinted;
+    private final boolean isCompressed;
+    private final JsonAddressBookReader reader = new JsonAddressBookReader();
+    private final int checkpointEntries;
+    private final long checkpointBytes;
+
+    // the persons in the json file and journal, or null if unknown, in which case the next save is a checkpoint
+    private List<Person> savedPersons;
+    private long lastSequence;
+    private int journalEntries;
+    private long journalBytes;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a storage of the address book at {@code filePath} that forces saves to the disk by {@code fsyncPolicy}.
+     */
+    public JournaledAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        this(filePath, fsyncPolicy, true);
+    }
+
+    /**
+     * Creates a storage of the address book at {@code filePath} that forces saves to the disk by {@code fsyncPolicy},
+     * and lays the json file out over indented lines if {@code isPrettyPrinted}, or on a single line otherwise.
+     */
+    public JournaledAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy, boolean isPrettyPrinted) {
+        this(filePath, fsyncPolicy, isPrettyPrinted, false);
+    }
+
+    /**
+     * Creates a storage as {@link #JournaledAddressBookStorage(Path, FsyncPolicy, boolean)} does, which compresses
+     * the json file if {@code isCompressed}. The journal, which is only ever appended to, is not compressed.
+     */
+    public JournaledAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy, boolean isPrettyPrinted,
+            boolean isCompressed) {
+        this(filePath, fsyncPolicy, isPrettyPrinted, isCompressed, DEFAULT_CHECKPOINT_ENTRIES,
+                DEFAULT_CHECKPOINT_BYTES);
+    }
+
+    /**
+     * Creates a storage as {@link #JournaledAddressBookStorage(Path, FsyncPolicy, boolean, boolean)} does, which
+     * rewrites the json file once the journal holds {@code checkpointEntries} entries or {@code checkpointBytes} bytes.
+     */
+    public JournaledAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy, boolean isPrettyPrinted,
+            boolean isCompressed, int checkpointEntries, long checkpointBytes) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.fileSyncer = new FileSyncer(fsyncPolicy);
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isCompressed = isCompressed;
+        this.checkpointEntries = checkpointEntries;
+        this.checkpointBytes = checkpointBytes;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the file holding the journal of the json file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, with the journal next to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+
+        AddressBook addressBook = new AddressBook();
+        List<Person> persons = new ArrayList<>();
+        long sequence = 0;
+        try {
+            Optional<JsonAddressBookReader.Result> checkpoint = readCheckpoint(filePath);
+            if (!checkpoint.isPresent() && !Files.exists(journalFilePath)) {
+                return Optional.empty();
+            }
+            if (checkpoint.isPresent()) {
+                persons.addAll(checkpoint.get().getPersons());
+                sequence = checkpoint.get().getJournalSequence();
+            }
+            Replay replay = replayJournal(journalFilePath, persons, sequence);
+            addressBook.setPersons(persons);
+            if (filePath.equals(this.filePath)) {
+                // a journal that could not be read to the end is dropped by writing the json file on the next save
+                savedPersons = replay.isComplete ? List.copyOf(persons) : null;
+                lastSequence = replay.lastSequence;
+                journalEntries = replay.entries;
+                journalBytes = replay.bytes;
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found in " + journalFilePath);
+            throw new DataLoadingException(dpe);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        return Optional.of(addressBook);
+    }
+
+    private Optional<JsonAddressBookReader.Result> readCheckpoint(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        try {
+            return reader.read(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeCheckpoint(addressBook, filePath, 0);
+            return;
+        }
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        if (savedPersons == null) {
+            checkpoint(addressBook, persons);
+            return;
+        }
+
+        // the changed persons lie between the persons both lists start with and the persons both lists end with
+        int start = 0;
+        int maxCommon = Math.min(savedPersons.size(), persons.size());
+        while (start < maxCommon && savedPersons.get(start).equals(persons.get(start))) {
+            start++;
+        }
+        int common = 0;
+        while (common < maxCommon - start && savedPersons.get(savedPersons.size() - 1 - common)
+                .equals(persons.get(persons.size() - 1 - common))) {
+            common++;
+        }
+        int savedEnd = savedPersons.size() - common;
+        int end = persons.size() - common;
+        if (start == savedEnd && start == end) {
+            return;
+        }
+
+        JsonJournalEntry entry = JsonJournalEntry.ofReplacement(lastSequence + 1, start, savedEnd,
+                persons.subList(start, end));
+        byte[] line = (JsonUtil.toSingleLineJsonString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        try {
+            appendToJournal(line);
+        } catch (IOException e) {
+            // part of the line may have been written, so the journal is only trusted again after a checkpoint
+            savedPersons = null;
+            throw e;
+        }
+        savedPersons = persons;
+        lastSequence++;
+        journalEntries++;
+        journalBytes += line.length;
+
+        if (journalEntries >= checkpointEntries || journalBytes >= checkpointBytes) {
+            checkpoint(addressBook, persons);
+        }
+    }
+
+    private void appendToJournal(byte[] line) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fileSyncer.shouldSyncAppendingTo(journalFilePath)) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Writes all of {@code addressBook}, whose persons are {@code persons}, to the json file and empties the journal.
+     */
+    private void checkpoint(ReadOnlyAddressBook addressBook, List<Person> persons) throws IOException {
+        logger.fine("Checkpointing address book to " + filePath + " after " + journalEntries + " journal entries");
+        savedPersons = null;
+        writeCheckpoint(addressBook, filePath, lastSequence);
+        savedPersons = persons;
+        journalEntries = 0;
+        journalBytes = 0;
+    }
+
+    /**
+     * Writes {@code addressBook}, which includes every journal entry up to {@code sequence}, to the json file at
+     * {@code filePath}, and deletes the journal next to it.
+     * Entries up to {@code sequence} are skipped when the journal is replayed, so a journal left behind by a failure
+     * between the two steps does no harm.
+     */
+    private void writeCheckpoint(ReadOnlyAddressBook addressBook, Path filePath, long sequence) throws IOException {
+        JsonUtil.saveJsonFileStreaming(filePath, generator -> JsonSerializableAddressBook.writeJson(addressBook,
+                sequence, generator), isPrettyPrinted, isCompressed, fileSyncer);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Makes the changes of the entries after {@code sequence} in the journal at {@code journalFilePath} to
+     * {@code persons}.
+     * Replay stops at the first line that cannot be parsed, which is what a save cut short leaves at the end.
+     */
+    private static Replay replayJournal(Path journalFilePath, List<Person> persons, long sequence)
+            throws IOException, IllegalValueException {
+        Replay replay = new Replay(sequence);
+        if (!Files.exists(journalFilePath)) {
+            return replay;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonJournalEntry.class);
+                } catch (IOException e) {
+                    logger.warning("Ignoring journal " + journalFilePath + " from entry " + (replay.entries + 1)
+                            + ", which cannot be read: " + e.getMessage());
+                    replay.isComplete = false;
+                    break;
+                }
+                if (entry.getSequence() > replay.lastSequence) {
+                    entry.applyTo(persons);
+                    replay.lastSequence = entry.getSequence();
+                }
+                replay.entries++;
+                replay.bytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * What replaying a journal found.
+     */
+    private static class Replay {
+        private long lastSequence;
+        private int entries;
+        private long bytes;
+        private boolean isComplete = true;
+
+        Replay(long lastSequence) {
+            this.lastSequence = lastSequence;
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads the json file of a {@link JsonSerializableAddressBook} a record at a time, rather than the whole file into
+ * memory first.
+ * The records are parsed in order, and passed in batches to a fork-join pool to be converted into persons, which runs
+ * the checks of every field, while the file is still being parsed. The persons are then taken in the order of the
+ * file, as {@link JsonSerializableAddressBook#toModelType()} takes them, so the address book and the problems
+ * reported are the same.
+ */
+class JsonAddressBookReader {
+
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+    public static final String MESSAGE_EMPTY_RECORD = "Person's record is empty!";
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    // batches still being converted when this many are waiting to be taken are taken before more are parsed, so
+    // that the records parsed but not yet taken do not pile up when parsing outpaces converting
+    private final int maxBatchesInFlight;
+
+    JsonAddressBookReader() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a reader that converts batches of {@code batchSize} records on {@code pool}.
+     */
+    JsonAddressBookReader(ForkJoinPool pool, int batchSize) {
+        this.pool = requireNonNull(pool);
+        this.batchSize = batchSize;
+        this.maxBatchesInFlight = 4 * pool.getParallelism();
+    }
+
+    /**
+     * Returns the address book in the json file at {@code filePath}, or {@code Optional.empty()} if there is no such
+     * file.
+     *
+     * @throws IOException if the file cannot be read or is not in the format of the json file.
+     * @throws IllegalValueException naming every invalid and duplicate record, if there are any.
+     */
+    public Optional<Result> read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try (InputStream in = FileUtil.newDecompressingInputStream(filePath)) {
+            return Optional.of(read(in));
+        }
+    }
+
+    /**
+     * Returns the address book in the json that {@code in} holds.
+     *
+     * @see #read(Path)
+     */
+    public Result read(InputStream in) throws IOException, IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        long journalSequence = 0;
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the address book to be a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (fieldName.equals("persons") && value == JsonToken.START_ARRAY) {
+                    readPersons(parser, assembler);
+                } else if (fieldName.equals("journalSequence") && value.isNumeric()) {
+                    journalSequence = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return new Result(assembler.getPersons(), journalSequence);
+    }
+
+    /**
+     * Reads the records of the array that {@code parser} is at, and gives the persons converted from them to
+     * {@code assembler} in order.
+     */
+    private void readPersons(JsonParser parser, AddressBookAssembler assembler) throws IOException {
+        Deque<ForkJoinTask<Batch>> inFlight = new ArrayDeque<>();
+        List<JsonAdaptedPerson> records = new ArrayList<>(batchSize);
+        int firstRecordNumber = 1;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            records.add(parser.currentToken() == JsonToken.VALUE_NULL
+                    ? null
+                    : JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+            if (records.size() == batchSize) {
+                inFlight.add(pool.submit(new Batch(firstRecordNumber, records)::convert));
+                firstRecordNumber += records.size();
+                records = new ArrayList<>(batchSize);
+                while (inFlight.size() > maxBatchesInFlight) {
+                    inFlight.remove().join().addTo(assembler);
+                }
+            }
+        }
+        if (!records.isEmpty()) {
+            inFlight.add(pool.submit(new Batch(firstRecordNumber, records)::convert));
+        }
+        while (!inFlight.isEmpty()) {
+            inFlight.remove().join().addTo(assembler);
+        }
+    }
+
+    /**
+     * Consecutive records of the file, and, once converted, the person or the problem of each.
+     */
+    private static class Batch {
+        private final int firstRecordNumber;
+        private List<JsonAdaptedPerson> records;
+        private Person[] persons;
+        private String[] problems;
+
+        Batch(int firstRecordNumber, List<JsonAdaptedPerson> records) {
+            this.firstRecordNumber = firstRecordNumber;
+            this.records = records;
+        }
+
+        Batch convert() {
+            persons = new Person[records.size()];
+            problems = new String[records.size()];
+            for (int i = 0; i < records.size(); i++) {
+                JsonAdaptedPerson record = records.get(i);
+                if (record == null) {
+                    problems[i] = MESSAGE_EMPTY_RECORD;
+                    continue;
+                }
+                try {
+                    persons[i] = record.toModelType();
+                } catch (IllegalValueException ive) {
+                    problems[i] = ive.getMessage();
+                }
+            }
+            // the records are not needed once converted
+            records = null;
+            return this;
+        }
+
+        void addTo(AddressBookAssembler assembler) {
+            for (int i = 0; i < persons.length; i++) {
+                if (problems[i] != null) {
+                    assembler.addInvalidRecord(firstRecordNumber + i, problems[i]);
+                } else {
+                    assembler.addPerson(firstRecordNumber + i, persons[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * The persons read from a json file, in the order of the file, with the last journal entry that the file includes.
+     */
+    public static class Result {
+        private final List<Person> persons;
+        private final long journalSequence;
+
+        Result(List<Person> persons, long journalSequence) {
+            this.persons = persons;
+            this.journalSequence = journalSequence;
+        }
+
+        public List<Person> getPersons() {
+            return persons;
+        }
+
+        /**
+         * Returns an address book of the persons read.
+         */
+        public AddressBook toAddressBook() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return addressBook;
+        }
+
+        public long getJournalSequence() {
+            return journalSequence;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one segment file of a {@link SegmentedAddressBookStorage}: some of the persons of the
+ * address book, each with its rank, which gives its place in the person list among the persons of every segment.
+ */
+class JsonAddressBookSegment {
+
+    private final List<Long> ranks = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookSegment} with the given ranks and persons, the rank of each person at the
+     * same index as it.
+     */
+    @JsonCreator
+    public JsonAddressBookSegment(@JsonProperty("ranks") List<Long> ranks,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (ranks != null) {
+            this.ranks.addAll(ranks);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the persons of {@code segment}, keyed by rank, into this class for Jackson use.
+     */
+    public static JsonAddressBookSegment of(SortedMap<Long, Person> segment) {
+        List<Long> ranks = new ArrayList<>(segment.size());
+        List<JsonAdaptedPerson> persons = new ArrayList<>(segment.size());
+        for (Map.Entry<Long, Person> entry : segment.entrySet()) {
+            ranks.add(entry.getKey());
+            persons.add(new JsonAdaptedPerson(entry.getValue()));
+        }
+        return new JsonAddressBookSegment(ranks, persons);
+    }
+
+    public List<Long> getRanks() {
+        return Collections.unmodifiableList(ranks);
+    }
+
+    public List<JsonAdaptedPerson> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+}
@@ -7,10 +7,11 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileSyncer;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -22,9 +23,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final FileSyncer fileSyncer;
+    private final boolean isPrettyPrinted;
+    private final boolean isCompressed;
+    private final JsonAddressBookReader reader = new JsonAddressBookReader();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a storage of the address book at {@code filePath} that forces saves to the disk by {@code fsyncPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        this(filePath, fsyncPolicy, true);
+    }
+
+    /**
+     * Creates a storage of the address book at {@code filePath} that forces saves to the disk by {@code fsyncPolicy},
+     * and lays the json file out over indented lines if {@code isPrettyPrinted}, or on a single line otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy, boolean isPrettyPrinted) {
+        this(filePath, fsyncPolicy, isPrettyPrinted, false);
+    }
+
+    /**
+     * Creates a storage as {@link #JsonAddressBookStorage(Path, FsyncPolicy, boolean)} does, which compresses the
+     * json file in the gzip format if {@code isCompressed}.
+     * A file is read whether it is compressed or not, so turning compression on or off keeps the data.
+     */
+    public JsonAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy, boolean isPrettyPrinted,
+            boolean isCompressed) {
         this.filePath = filePath;
+        this.fileSyncer = new FileSyncer(fsyncPolicy);
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +78,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return reader.read(filePath).map(JsonAddressBookReader.Result::toAddressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +96,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced in one step, so a crash while saving leaves the last address book saved.
+     * The json is streamed to the file as the persons are converted, rather than built in memory first.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +105,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFileStreaming(filePath, generator -> JsonSerializableAddressBook.writeJson(addressBook, 0,
+                generator), isPrettyPrinted, isCompressed, fileSyncer);
     }
 
 }
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change to the person list: the persons from index {@code from} (inclusive) to
+ * {@code to} (exclusive) are replaced with {@code persons}.
+ * An add is an empty range at the end replaced with the new person, an edit is a range of one replaced with the edited
+ * person, a delete is a range of one replaced with nothing, and a clear is the whole list replaced with nothing.
+ */
+class JsonJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry %1$d replaces persons %2$d to %3$d of %4$d";
+
+    private final long sequence;
+    private final int from;
+    private final int to;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("sequence") long sequence, @JsonProperty("from") int from,
+            @JsonProperty("to") int to, @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.sequence = sequence;
+        this.from = from;
+        this.to = to;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the replacement of the persons from {@code from} to {@code to} with {@code replacement} into this class
+     * for Jackson use.
+     */
+    public static JsonJournalEntry ofReplacement(long sequence, int from, int to, List<Person> replacement) {
+        return new JsonJournalEntry(sequence, from, to,
+                replacement.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Makes the change of this entry to {@code personList}.
+     *
+     * @throws IllegalValueException if the range is not in {@code personList}, or a person is invalid.
+     */
+    public void applyTo(List<Person> personList) throws IllegalValueException {
+        if (from < 0 || from > to || to > personList.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, sequence, from, to,
+                    personList.size()));
+        }
+        List<Person> replacement = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson person : persons) {
+            replacement.add(person.toModelType());
+        }
+        List<Person> range = personList.subList(from, to);
+        range.clear();
+        range.addAll(replacement);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SegmentedAddressBookStorage}: the file currently holding each
+ * segment, and the generation of the last save, which names the segment files it wrote.
+ * Replacing the manifest is what makes a save take effect, so segment files written by a save that did not get that
+ * far are never read.
+ */
+class JsonSegmentManifest {
+
+    private final long generation;
+    private final List<String> segmentFiles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given generation and segment files.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("segmentFiles") List<String> segmentFiles) {
+        this.generation = generation;
+        if (segmentFiles != null) {
+            this.segmentFiles.addAll(segmentFiles);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public List<String> getSegmentFiles() {
+        return Collections.unmodifiableList(segmentFiles);
+    }
+}
@@ -1,14 +1,18 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -20,15 +24,30 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_RECORD = "Person %1$d: %2$s";
+    public static final String MESSAGE_DUPLICATE_RECORD = "Person %1$d: duplicates person %2$d";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    // the last journal entry already applied to these persons; left out of files that are not journaled
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons) {
+        this(persons, 0);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, which include every journal entry up
+     * to {@code journalSequence}.
+     */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("journalSequence") long journalSequence) {
         this.persons.addAll(persons);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -37,24 +56,61 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook}, which includes every journal entry up to {@code journalSequence},
+     * into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long journalSequence) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+    }
+
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Writes {@code source}, which includes every journal entry up to {@code journalSequence}, to {@code generator}
+     * as the JSON of this class, converting one person at a time, so that no more than one converted person is held
+     * in memory however large the address book is.
+     */
+    public static void writeJson(ReadOnlyAddressBook source, long journalSequence, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        if (journalSequence != 0) {
+            generator.writeNumberField("journalSequence", journalSequence);
+        }
+        generator.writeEndObject();
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Every record is checked before the address book is built, so that all invalid and duplicate records are
+     * reported together rather than only the first one found.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        for (int i = 0; i < persons.size(); i++) {
+            int recordNumber = i + 1;
+            try {
+                assembler.addPerson(recordNumber, persons.get(i).toModelType());
+            } catch (IllegalValueException ive) {
+                assembler.addInvalidRecord(recordNumber, ive.getMessage());
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+        return assembler.toAddressBook();
     }
 
 }
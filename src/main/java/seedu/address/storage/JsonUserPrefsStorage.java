@@ -4,7 +4,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileSyncer;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -15,9 +17,18 @@ import seedu.address.model.UserPrefs;
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     private Path filePath;
+    private final FileSyncer fileSyncer;
 
     public JsonUserPrefsStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a storage of the preferences at {@code filePath} that forces saves to the disk by {@code fsyncPolicy}.
+     */
+    public JsonUserPrefsStorage(Path filePath, FsyncPolicy fsyncPolicy) {
         this.filePath = filePath;
+        this.fileSyncer = new FileSyncer(fsyncPolicy);
     }
 
     @Override
@@ -41,7 +52,7 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFileAtomically(userPrefs, filePath, fileSyncer);
     }
 
 }
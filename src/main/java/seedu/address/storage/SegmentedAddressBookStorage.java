@@ -0,0 +1,474 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileSyncer;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as segment files of json on the hard disk, so that a save rewrites only
+ * the segments holding the persons that changed.
+ * <p>
+ * Every person has a rank, which orders the person list, and which stays the same while the person is edited. The
+ * rank decides by its hash which of the segment files holds the person. A manifest, at the file path of this storage,
+ * names the file of each segment. A save writes the changed segments to new files, then replaces the manifest, which
+ * is when the save takes effect, and then deletes the files the changed segments were in. A crash while saving
+ * therefore leaves the address book as last saved. On startup, the segment files are read in parallel.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_COUNT = 16;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SEGMENTS_DIRECTORY_SUFFIX = ".segments";
+
+    public static final String MESSAGE_CORRUPTED_SEGMENT = "Segment file %1$s is corrupted: %2$s";
+
+    /** The gap left between the ranks of consecutive persons when every segment is written, for later inserts. */
+    static final long RANK_GAP = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private static final String SEGMENT_FILE_FORMAT = "segment-%02d-%d.json";
+    private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-\\d+-(\\d+)\\.json");
+
+    private Path filePath;
+    private final int segmentCount;
+    private final FileSyncer fileSyncer;
+    private final boolean isPrettyPrinted;
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    // the address book as last saved to or read from filePath, or null if the next save writes every segment
+    private Layout saved;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_COUNT, FsyncPolicy.ALWAYS, true);
+    }
+
+    /**
+     * Creates a storage of the address book with its manifest at {@code filePath} that spreads the persons over
+     * {@code segmentCount} segment files in the same directory, forces saves to the disk by {@code fsyncPolicy},
+     * and lays the json files out over indented lines if {@code isPrettyPrinted}, or on a single line otherwise.
+     */
+    public SegmentedAddressBookStorage(Path filePath, int segmentCount, FsyncPolicy fsyncPolicy,
+            boolean isPrettyPrinted) {
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException("There must be at least one segment");
+        }
+        this.filePath = filePath;
+        this.segmentCount = segmentCount;
+        this.fileSyncer = new FileSyncer(fsyncPolicy);
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the manifest kept in place of the json file at {@code jsonFilePath}: a directory next to
+     * it named after it, with the suffix {@link #SEGMENTS_DIRECTORY_SUFFIX} in place of its extension.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SEGMENTS_DIRECTORY_SUFFIX).resolve(MANIFEST_FILE_NAME);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, with the segment files next to the manifest at {@code filePath}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonSegmentManifest> manifest = JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+        List<String> segmentFiles = manifest.get().getSegmentFiles();
+        List<ForkJoinTask<List<Entry>>> reads = new ArrayList<>();
+        for (String segmentFile : segmentFiles) {
+            Path segmentPath = filePath.resolveSibling(segmentFile);
+            reads.add(pool.submit(() -> readSegment(segmentPath)));
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        boolean isInPlace = segmentFiles.size() == segmentCount;
+        for (int segment = 0; segment < reads.size(); segment++) {
+            List<Entry> segmentEntries = join(reads.get(segment));
+            for (Entry entry : segmentEntries) {
+                isInPlace &= segmentOf(entry.rank, segmentFiles.size()) == segment;
+            }
+            entries.addAll(segmentEntries);
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.rank));
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (i > 0 && entries.get(i - 1).rank == entry.rank) {
+                throw new DataLoadingException(new IOException(String.format(MESSAGE_CORRUPTED_SEGMENT,
+                        filePath.getParent(), "two persons have the rank " + entry.rank)));
+            }
+            if (entry.problem != null) {
+                assembler.addInvalidRecord(i + 1, entry.problem);
+            } else {
+                assembler.addPerson(i + 1, entry.person);
+            }
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = assembler.toAddressBook();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath.getParent() + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        if (filePath.equals(this.filePath)) {
+            // segments laid out for another number of segments are laid out again on the next save
+            saved = isInPlace ? new Layout(entries, segmentFiles, manifest.get().getGeneration()) : null;
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the persons of the segment file at {@code segmentPath}, each converted or found invalid.
+     */
+    private List<Entry> readSegment(Path segmentPath) throws DataLoadingException {
+        JsonAddressBookSegment segment = JsonUtil.readJsonFile(segmentPath, JsonAddressBookSegment.class)
+                .orElseThrow(() -> new DataLoadingException(new IOException(String.format(MESSAGE_CORRUPTED_SEGMENT,
+                        segmentPath, "it is missing"))));
+        if (segment.getRanks().size() != segment.getPersons().size()) {
+            throw new DataLoadingException(new IOException(String.format(MESSAGE_CORRUPTED_SEGMENT, segmentPath,
+                    "it does not have a rank for every person")));
+        }
+        List<Entry> entries = new ArrayList<>(segment.getRanks().size());
+        for (int i = 0; i < segment.getRanks().size(); i++) {
+            long rank = segment.getRanks().get(i);
+            JsonAdaptedPerson person = segment.getPersons().get(i);
+            if (person == null) {
+                entries.add(new Entry(rank, null, JsonAddressBookReader.MESSAGE_EMPTY_RECORD));
+                continue;
+            }
+            try {
+                entries.add(new Entry(rank, person.toModelType(), null));
+            } catch (IllegalValueException ive) {
+                entries.add(new Entry(rank, null, ive.getMessage()));
+            }
+        }
+        return entries;
+    }
+
+    private static List<Entry> join(ForkJoinTask<List<Entry>> read) throws DataLoadingException {
+        try {
+            return read.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        if (!filePath.equals(this.filePath)) {
+            writeAllSegments(persons, filePath);
+            return;
+        }
+        if (saved == null) {
+            saved = writeAllSegments(persons, filePath);
+            return;
+        }
+
+        // the changed persons lie between the persons both lists start with and the persons both lists end with
+        List<Person> savedPersons = saved.persons;
+        int start = 0;
+        int maxCommon = Math.min(savedPersons.size(), persons.size());
+        while (start < maxCommon && savedPersons.get(start).equals(persons.get(start))) {
+            start++;
+        }
+        int common = 0;
+        while (common < maxCommon - start && savedPersons.get(savedPersons.size() - 1 - common)
+                .equals(persons.get(persons.size() - 1 - common))) {
+            common++;
+        }
+        int savedEnd = savedPersons.size() - common;
+        int end = persons.size() - common;
+        if (start == savedEnd && start == end) {
+            return;
+        }
+
+        long[] newRanks = allocateRanks(start, savedEnd, end - start);
+        if (newRanks == null) {
+            // no room is left between the ranks around the change, so every person is ranked again
+            saved = writeAllSegments(persons, filePath);
+            return;
+        }
+        try {
+            saved = saveChanges(persons, start, savedEnd, end, newRanks);
+        } catch (IOException e) {
+            // the segments kept in memory no longer match the files, so every segment is written on the next save
+            saved = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the ranks of {@code count} persons replacing the saved persons from {@code from} to {@code to}: the
+     * ranks of the persons replaced if they are replaced one for one, as by an edit, or otherwise ranks spread evenly
+     * between the ranks of the persons around them. Returns null if there is no room for them.
+     */
+    private long[] allocateRanks(int from, int to, int count) {
+        long[] savedRanks = saved.ranks;
+        if (to - from == count) {
+            return Arrays.copyOfRange(savedRanks, from, to);
+        }
+        long low = from > 0 ? savedRanks[from - 1] : 0;
+        long high = to < savedRanks.length ? savedRanks[to] : low + (count + 1) * RANK_GAP;
+        long step = (high - low) / (count + 1);
+        if (step == 0) {
+            return null;
+        }
+        long[] ranks = new long[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = low + (i + 1) * step;
+        }
+        return ranks;
+    }
+
+    /**
+     * Writes the segments holding the saved persons from {@code savedFrom} to {@code savedTo}, which are replaced by
+     * the persons from {@code from} to {@code to} of {@code persons} ranked {@code newRanks}, then the manifest.
+     */
+    private Layout saveChanges(List<Person> persons, int from, int savedTo, int to, long[] newRanks)
+            throws IOException {
+        Set<Integer> dirtySegments = new TreeSet<>();
+        for (int i = from; i < savedTo; i++) {
+            long rank = saved.ranks[i];
+            int segment = segmentOf(rank, segmentCount);
+            saved.segments.get(segment).remove(rank);
+            dirtySegments.add(segment);
+        }
+        for (int i = 0; i < newRanks.length; i++) {
+            int segment = segmentOf(newRanks[i], segmentCount);
+            saved.segments.get(segment).put(newRanks[i], persons.get(from + i));
+            dirtySegments.add(segment);
+        }
+
+        long generation = saved.generation + 1;
+        String[] segmentFiles = saved.segmentFiles.clone();
+        boolean isSynced = fileSyncer.shouldSyncReplacing(filePath);
+        for (int segment : dirtySegments) {
+            segmentFiles[segment] = String.format(SEGMENT_FILE_FORMAT, segment, generation);
+            writeSegment(filePath.resolveSibling(segmentFiles[segment]), saved.segments.get(segment), isSynced);
+        }
+        writeManifest(filePath, generation, segmentFiles, isSynced);
+        for (int segment : dirtySegments) {
+            deleteSegmentFile(filePath.resolveSibling(saved.segmentFiles[segment]));
+        }
+
+        long[] ranks = new long[persons.size()];
+        System.arraycopy(saved.ranks, 0, ranks, 0, from);
+        System.arraycopy(newRanks, 0, ranks, from, newRanks.length);
+        System.arraycopy(saved.ranks, savedTo, ranks, to, persons.size() - to);
+        logger.fine("Rewrote " + dirtySegments.size() + " of " + segmentCount + " segments of " + filePath.getParent());
+        return new Layout(persons, ranks, saved.segments, segmentFiles, generation);
+    }
+
+    /**
+     * Writes every segment of {@code persons}, ranked again from the start, then the manifest at {@code manifestPath},
+     * and deletes the segment files the manifest no longer names.
+     */
+    private Layout writeAllSegments(List<Person> persons, Path manifestPath) throws IOException {
+        long[] ranks = new long[persons.size()];
+        List<TreeMap<Long, Person>> segments = new ArrayList<>(segmentCount);
+        for (int segment = 0; segment < segmentCount; segment++) {
+            segments.add(new TreeMap<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            ranks[i] = (i + 1) * RANK_GAP;
+            segments.get(segmentOf(ranks[i], segmentCount)).put(ranks[i], persons.get(i));
+        }
+
+        FileUtil.createParentDirsOfFile(manifestPath);
+        List<Path> oldSegmentFiles = listSegmentFiles(manifestPath);
+        long generation = 1;
+        for (Path oldSegmentFile : oldSegmentFiles) {
+            Matcher matcher = SEGMENT_FILE_PATTERN.matcher(oldSegmentFile.getFileName().toString());
+            if (matcher.matches()) {
+                generation = Math.max(generation, Long.parseLong(matcher.group(1)) + 1);
+            }
+        }
+
+        String[] segmentFiles = new String[segmentCount];
+        boolean isSynced = fileSyncer.shouldSyncReplacing(manifestPath);
+        for (int segment = 0; segment < segmentCount; segment++) {
+            segmentFiles[segment] = String.format(SEGMENT_FILE_FORMAT, segment, generation);
+            writeSegment(manifestPath.resolveSibling(segmentFiles[segment]), segments.get(segment), isSynced);
+        }
+        writeManifest(manifestPath, generation, segmentFiles, isSynced);
+        for (Path oldSegmentFile : oldSegmentFiles) {
+            deleteSegmentFile(oldSegmentFile);
+        }
+        return new Layout(persons, ranks, segments, segmentFiles, generation);
+    }
+
+    private void writeSegment(Path segmentPath, TreeMap<Long, Person> segment, boolean isSynced) throws IOException {
+        JsonAddressBookSegment jsonSegment = JsonAddressBookSegment.of(segment);
+        FileUtil.writeToFileAtomically(segmentPath, out -> {
+            JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted);
+            JsonUtil.writeValue(generator, jsonSegment);
+            generator.flush();
+        }, isSynced);
+    }
+
+    private void writeManifest(Path manifestPath, long generation, String[] segmentFiles, boolean isSynced)
+            throws IOException {
+        FileUtil.writeToFileAtomically(manifestPath,
+                JsonUtil.toJsonString(new JsonSegmentManifest(generation, Arrays.asList(segmentFiles))), isSynced);
+    }
+
+    /**
+     * Returns the segment files in the directory of the manifest at {@code manifestPath}.
+     */
+    private static List<Path> listSegmentFiles(Path manifestPath) throws IOException {
+        List<Path> segmentFiles = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(manifestPath.toAbsolutePath().getParent(),
+                "segment-*.json")) {
+            files.forEach(segmentFiles::add);
+        }
+        return segmentFiles;
+    }
+
+    /**
+     * Deletes the segment file at {@code segmentPath}, which the manifest no longer names. A file left behind takes
+     * up space, but is never read, so failing to delete it does not fail the save.
+     */
+    private static void deleteSegmentFile(Path segmentPath) {
+        try {
+            Files.deleteIfExists(segmentPath);
+        } catch (IOException e) {
+            logger.warning("Failed to delete the replaced segment file " + segmentPath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the segment that holds the person ranked {@code rank}, out of {@code segmentCount} segments.
+     * The rank is hashed by multiplying it by a constant derived from the golden ratio and keeping the high bits, which
+     * spreads the evenly spaced ranks of a full save evenly over the segments.
+     */
+    static int segmentOf(long rank, int segmentCount) {
+        int hash = (int) ((rank * 0x9E3779B97F4A7C15L) >>> 32);
+        return Math.floorMod(hash, segmentCount);
+    }
+
+    /**
+     * A person read from a segment file, or the problem that kept it from being read, with its rank.
+     */
+    private static class Entry {
+        private final long rank;
+        private final Person person;
+        private final String problem;
+
+        Entry(long rank, Person person, String problem) {
+            this.rank = rank;
+            this.person = person;
+            this.problem = problem;
+        }
+    }
+
+    /**
+     * The persons as last saved, with the rank of each, the persons of each segment keyed by rank, and the file each
+     * segment is in.
+     */
+    private static class Layout {
+        private final List<Person> persons;
+        private final long[] ranks;
+        private final List<TreeMap<Long, Person>> segments;
+        private final String[] segmentFiles;
+        private final long generation;
+
+        Layout(List<Person> persons, long[] ranks, List<TreeMap<Long, Person>> segments, String[] segmentFiles,
+                long generation) {
+            this.persons = persons;
+            this.ranks = ranks;
+            this.segments = segments;
+            this.segmentFiles = segmentFiles;
+            this.generation = generation;
+        }
+
+        /**
+         * Creates the layout of the valid {@code entries} read, sorted by rank, from {@code segmentFiles}.
+         */
+        Layout(List<Entry> entries, List<String> segmentFiles, long generation) {
+            this.persons = new ArrayList<>(entries.size());
+            this.ranks = new long[entries.size()];
+            this.segments = new ArrayList<>(segmentFiles.size());
+            for (int segment = 0; segment < segmentFiles.size(); segment++) {
+                segments.add(new TreeMap<>());
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                persons.add(entry.person);
+                ranks[i] = entry.rank;
+                segments.get(segmentOf(entry.rank, segmentFiles.size())).put(entry.rank, entry.person);
+            }
+            this.segmentFiles = segmentFiles.toArray(new String[0]);
+            this.generation = generation;
+        }
+    }
+}
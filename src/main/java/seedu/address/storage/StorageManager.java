@@ -94,5 +94,9 @@ public class StorageManager implements Storage {
     public void saveCommandHistory(List<String> oldestFirst) throws IOException {
         commandHistoryStorage.saveCommandHistory(oldestFirst);
     }
+    @Override
+    public void appendCommand(String command) throws IOException {
+        commandHistoryStorage.appendCommand(command);
+    }
 
 }
@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -25,12 +27,23 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String SEARCH_MATCH_FORMAT = "(reverse-i-search): %s";
+    public static final String SEARCH_FAILED_FORMAT = "(failed reverse-i-search): %s";
+    public static final String SEARCH_PROMPT = "(reverse-i-search): type to search the command history";
+    public static final String SEARCH_NO_MATCH = "(failed reverse-i-search): no command contains the text typed";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
 
     private final ContextMenu suggestions = new ContextMenu();
     private int highlightIndex = -1;
+    // the past commands suggested for what is typed, before the command words
+    private Function<String, List<String>> historySuggestions = prefix -> List.of();
+
+    // while searching the command history, the text field holds the text searched for
+    private boolean isSearching = false;
+    private String textBeforeSearch = "";
+    private String searchMatch = null;
 
     @FXML
     private TextField commandTextField;
@@ -45,13 +58,16 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
 
         commandTextField.textProperty().addListener((obs, oldText, newText) -> {
-            updateSuggestions(newText.trim());
+            if (!isSearching) {
+                updateSuggestions(newText.stripLeading());
+            }
         });
 
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
 
         commandTextField.focusedProperty().addListener((o, was, isNow) -> {
             if (!isNow) {
+                isSearching = false;
                 suggestions.hide();
             }
         });
@@ -70,11 +86,31 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Passes the logic object to command box and updates its contents
+     * Passes the logic object to command box and updates its contents.
+     * Ctrl+R starts a reverse incremental search of the command history, in which the text typed is searched for and
+     * the newest command containing it is shown below the command box. Ctrl+R again finds the next older command,
+     * Enter, Tab, UP or DOWN puts the command found into the command box, and Escape restores the text before the
+     * search.
+     * The past commands starting with what is typed are also suggested, those used most often and most recently first.
      * @param logic
      */
     public void installHistoryHandlers(Logic logic) {
+        historySuggestions = logic::suggest;
+        commandTextField.textProperty().addListener((obs, oldText, newText) -> {
+            if (isSearching) {
+                showSearchResult(logic.search(newText), logic);
+            }
+        });
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (isSearching) {
+                handleSearchKeyPressed(e, logic);
+                return;
+            }
+            if (isReverseSearchKey(e)) {
+                e.consume();
+                beginSearch(logic);
+                return;
+            }
             if (isMenuVisible()) {
                 return; // let suggestion handler deal with UP/DOWN
             }
@@ -86,6 +122,74 @@ public class CommandBox extends UiPart<Region> {
             }
         });
     }
+
+    private static boolean isReverseSearchKey(KeyEvent e) {
+        return e.getCode() == KeyCode.R && e.isControlDown();
+    }
+
+    private void beginSearch(Logic logic) {
+        logic.resetSearch();
+        textBeforeSearch = commandTextField.getText();
+        searchMatch = null;
+        isSearching = true;
+        commandTextField.setText("");
+        showSearchResult(Optional.empty(), logic);
+    }
+
+    private void endSearch(Logic logic, String text) {
+        isSearching = false;
+        logic.resetSearch();
+        suggestions.hide();
+        showText(text);
+    }
+
+    private void handleSearchKeyPressed(KeyEvent e, Logic logic) {
+        if (isReverseSearchKey(e)) {
+            e.consume();
+            showSearchResult(logic.searchOlder(commandTextField.getText()), logic);
+            return;
+        }
+        switch (e.getCode()) {
+        case ENTER:
+        case TAB:
+        case UP:
+        case DOWN:
+            e.consume();
+            endSearch(logic, searchMatch == null ? commandTextField.getText() : searchMatch);
+            break;
+        case ESCAPE:
+            e.consume();
+            endSearch(logic, textBeforeSearch);
+            break;
+        default:
+        }
+    }
+
+    /**
+     * Shows the command found by the search below the command box, or the command found before if none is found.
+     * Clicking it puts it into the command box.
+     */
+    private void showSearchResult(Optional<String> match, Logic logic) {
+        match.ifPresent(command -> searchMatch = command);
+        String text;
+        if (searchMatch == null) {
+            text = commandTextField.getText().isEmpty() ? SEARCH_PROMPT : SEARCH_NO_MATCH;
+        } else {
+            text = String.format(match.isPresent() || commandTextField.getText().isEmpty()
+                    ? SEARCH_MATCH_FORMAT : SEARCH_FAILED_FORMAT, searchMatch);
+        }
+
+        Label label = new Label(text);
+        label.setMaxWidth(Double.MAX_VALUE);
+        label.setStyle("-fx-background-color: transparent; -fx-font-weight: bold;");
+        CustomMenuItem item = new CustomMenuItem(label, true);
+        item.setStyle("-fx-background-color: transparent;");
+        item.setOnAction(ev -> endSearch(logic, searchMatch == null ? commandTextField.getText() : searchMatch));
+        suggestions.getItems().setAll(item);
+        highlightIndex = -1;
+        showMenuIfNeeded();
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
@@ -125,7 +229,8 @@ public class CommandBox extends UiPart<Region> {
     }
 
     private void acceptSuggestion(String suggestion) {
-        commandTextField.setText(suggestion + " ");
+        // a command word is followed by its arguments, whereas a past command is accepted as it was
+        commandTextField.setText(CommandHints.COMMANDS.contains(suggestion) ? suggestion + " " : suggestion);
         commandTextField.positionCaret(commandTextField.getText().length());
         suggestions.hide();
     }
@@ -148,6 +253,9 @@ public class CommandBox extends UiPart<Region> {
     }
 
     private void handleKeyPressed(KeyEvent e) {
+        if (isSearching) {
+            return; // the search handler deals with the keys while searching
+        }
         if (!isMenuVisible()) {
             if (e.getCode() == KeyCode.TAB) {
                 e.consume();
@@ -202,7 +310,8 @@ public class CommandBox extends UiPart<Region> {
         boolean isCommand = CommandHints.COMMANDS.stream()
                 .anyMatch(c -> c.equalsIgnoreCase(typed));
         e.consume();
-        if (isCommand) {
+        // once arguments are typed, ENTER runs what is typed unless a suggestion is picked
+        if (isCommand || highlightIndex < 0 && typed.contains(" ")) {
             suggestions.hide();
             handleCommandEntered();
             return;
@@ -221,11 +330,7 @@ public class CommandBox extends UiPart<Region> {
     }
 
     private List<String> buildMatches(String prefix) {
-        String p = prefix.toLowerCase();
-        return CommandHints.COMMANDS.stream()
-                .filter(cmd -> cmd.toLowerCase().startsWith(p))
-                .limit(8)
-                .toList();
+        return CommandHints.suggest(historySuggestions.apply(prefix), prefix);
     }
 
     private boolean isExactSingleMatch(String prefix, List<String> matches) {
@@ -12,7 +12,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", fsyncPolicy=" + config.getFsyncPolicy()
+                + ", dataFilePrettyPrinted=" + config.isDataFilePrettyPrinted()
+                + ", dataFileCompressed=" + config.isDataFileCompressed() + "}";
         assertEquals(expected, config.toString());
     }
 
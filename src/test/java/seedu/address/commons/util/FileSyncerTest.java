@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+
+public class FileSyncerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FileSyncer(null));
+    }
+
+    @Test
+    public void shouldSync_always_everyWrite() {
+        FileSyncer fileSyncer = new FileSyncer(FsyncPolicy.ALWAYS);
+        assertTrue(fileSyncer.shouldSyncReplacing(testFolder.resolve("data.json")));
+        assertTrue(fileSyncer.shouldSyncAppendingTo(testFolder.resolve("data.journal")));
+        assertFalse(fileSyncer.hasUnforcedWrites());
+    }
+
+    @Test
+    public void shouldSync_never_noWrite() {
+        FileSyncer fileSyncer = new FileSyncer(FsyncPolicy.NEVER);
+        assertFalse(fileSyncer.shouldSyncReplacing(testFolder.resolve("data.json")));
+        assertFalse(fileSyncer.shouldSyncAppendingTo(testFolder.resolve("data.journal")));
+        assertFalse(fileSyncer.hasUnforcedWrites());
+    }
+
+    @Test
+    public void shouldSync_batched_laterWritesOfBatchForcedWhenBatchEnds() throws Exception {
+        FileSyncer fileSyncer = new FileSyncer(FsyncPolicy.BATCHED, 100);
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFileAtomically(file, "{}", fileSyncer.shouldSyncReplacing(file));
+        // well within the batch interval of the first
+        assertFalse(fileSyncer.shouldSyncReplacing(file));
+        assertFalse(fileSyncer.shouldSyncAppendingTo(testFolder.resolve("data.journal")));
+        assertTrue(fileSyncer.hasUnforcedWrites());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (fileSyncer.hasUnforcedWrites() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(fileSyncer.hasUnforcedWrites());
+    }
+
+    @Test
+    public void forceUnforcedPaths_batched_startsNewBatch() {
+        FileSyncer fileSyncer = new FileSyncer(FsyncPolicy.BATCHED, 60_000);
+        Path file = testFolder.resolve("data.json");
+        assertTrue(fileSyncer.shouldSyncReplacing(file));
+        assertFalse(fileSyncer.shouldSyncReplacing(file));
+        fileSyncer.forceUnforcedPaths();
+        assertFalse(fileSyncer.hasUnforcedWrites());
+        assertFalse(fileSyncer.shouldSyncReplacing(file));
+    }
+}
@@ -1,13 +1,28 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.CrashSimulator.crashingWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.testutil.CrashSimulator.SimulatedCrash;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +35,75 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingFileAndFolder_created() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "content", true);
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replaced() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFileAtomically(file, "new content", false);
+        assertEquals("new content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void compressed_readBackDecompressed() throws Exception {
+        Path file = testFolder.resolve("file.json.gz");
+        String content = "content ".repeat(1000);
+        FileUtil.writeToFileAtomically(file, FileUtil.compressed(out -> out.write(content.getBytes(
+                StandardCharsets.UTF_8)), Deflater.BEST_SPEED), false);
+
+        assertTrue(Files.size(file) < content.length() / 10);
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void newDecompressingInputStream_uncompressedOrEmptyFile_readAsItIs() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "{}");
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals("{}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        FileUtil.writeToFile(file, "");
+        try (InputStream in = FileUtil.newDecompressingInputStream(file)) {
+            assertEquals(0, in.readAllBytes().length);
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_crashPartwayThrough_oldContentKept() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(SimulatedCrash.class, () ->
+                FileUtil.writeToFileAtomically(file, crashingWriter("new content", 4), true));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        // the crash leaves the partly written temporary file behind, which the next write overwrites
+        assertEquals("new ", FileUtil.readFromFile(FileUtil.getTempFilePath(file)));
+
+        FileUtil.writeToFileAtomically(file, "newer", true);
+        assertEquals("newer", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerThrowsIoException_oldContentKeptAndTempFileDeleted() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write(1);
+            throw new IOException("disk full");
+        }, true));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
 }
@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void matchesAnyIn_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> KeywordMatcher.compile(List.of("a")).matchesAnyIn(null));
+    }
+
+    @Test
+    public void matchesAnyIn_keywordInText_returnsTrue() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("he", "she", "his", "hers"));
+        assertTrue(matcher.matchesAnyIn("ushers"));
+        assertTrue(matcher.matchesAnyIn("this"));
+        assertTrue(matcher.matchesAnyIn("SHE"));
+    }
+
+    @Test
+    public void matchesAnyIn_noKeywordInText_returnsFalse() {
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("he", "she", "his", "hers"));
+        assertFalse(matcher.matchesAnyIn("hi"));
+        assertFalse(matcher.matchesAnyIn("s h e"));
+        assertFalse(matcher.matchesAnyIn(""));
+        assertFalse(KeywordMatcher.compile(List.of()).matchesAnyIn("anything"));
+    }
+
+    @Test
+    public void matchesAnyIn_mismatchAfterPartialMatch_fallsBackToSuffix() {
+        // "abab" fails on "c" after "ababa", which must fall back to "aba" rather than restart
+        KeywordMatcher matcher = KeywordMatcher.compile(List.of("ababc"));
+        assertTrue(matcher.matchesAnyIn("abababc"));
+        assertFalse(matcher.matchesAnyIn("ababab"));
+        // a keyword that ends inside a longer one
+        assertTrue(KeywordMatcher.compile(List.of("xbcdy", "bc")).matchesAnyIn("abcd"));
+    }
+
+    @Test
+    public void matchesAnyIn_emptyKeyword_matchesEveryText() {
+        assertTrue(KeywordMatcher.compile(List.of("zzz", "")).matchesAnyIn(""));
+    }
+
+    @Test
+    public void matchesAnyIn_agreesWithContainsIgnoringCase() {
+        List<String> keywords = List.of("ali", "Ce P", "meier", "Zé", "n");
+        KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+        for (String text : List.of("Alice Pauline", "Benson Meier", "ZÉNA", "Carl Kurz", "Guo Yu", "")) {
+            String lowerCaseText = text.toLowerCase();
+            boolean expected = keywords.stream().anyMatch(keyword -> lowerCaseText.contains(keyword.toLowerCase()));
+            assertEquals(expected, matcher.matchesAnyIn(text), text);
+        }
+    }
+}
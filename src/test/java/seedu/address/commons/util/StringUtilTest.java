@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +128,90 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance_validInputs_correctResult() {
+        // identical or empty strings
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("alex", "alex"));
+        assertEquals(4, StringUtil.editDistance("", "alex"));
+
+        // one insertion, deletion or substitution
+        assertEquals(1, StringUtil.editDistance("alx", "alex"));
+        assertEquals(1, StringUtil.editDistance("alex", "alx"));
+        assertEquals(1, StringUtil.editDistance("alex", "alix"));
+
+        // several edits, case-sensitive
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.editDistance("Alex", "alex"));
+    }
+
+    //---------------- Tests for phoneticKey --------------------------------------
+
+    @Test
+    public void phoneticKey_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.phoneticKey(null));
+    }
+
+    @Test
+    public void phoneticKey_soundAlikeSpellings_sameKey() {
+        assertEquals(StringUtil.phoneticKey("Mohammed"), StringUtil.phoneticKey("Muhammad"));
+        assertEquals(StringUtil.phoneticKey("Ng"), StringUtil.phoneticKey("Eng"));
+        assertEquals(StringUtil.phoneticKey("Catherine"), StringUtil.phoneticKey("Kathryn"));
+        assertEquals(StringUtil.phoneticKey("Stephen"), StringUtil.phoneticKey("Steven"));
+        assertEquals(StringUtil.phoneticKey("Knight"), StringUtil.phoneticKey("night"));
+        assertEquals(StringUtil.phoneticKey("Mayer"), StringUtil.phoneticKey("Meier"));
+
+        // case and non-letters are ignored
+        assertEquals(StringUtil.phoneticKey("o'brien"), StringUtil.phoneticKey("OBRIEN"));
+    }
+
+    @Test
+    public void phoneticKey_differentSounds_differentKeys() {
+        assertNotEquals(StringUtil.phoneticKey("Tan"), StringUtil.phoneticKey("Lim"));
+        assertNotEquals(StringUtil.phoneticKey("Alex"), StringUtil.phoneticKey("Bob"));
+    }
+
+    @Test
+    public void phoneticKey_commonNames_noCollisions() {
+        List<String> names = List.of("Tan", "Tim", "Tom", "Dean", "Adam", "Edwin", "Lee", "Ali", "Lim", "Lin", "Ling",
+                "Lam", "Ong", "Goh", "Koh", "Ho", "Chan", "Chen", "Teo", "Toh", "Wong", "Wang", "Ng", "Yeo",
+                "Sim", "Siti", "Sarah", "Kumar", "Raj", "Ahmad", "Nur", "Aisyah", "Cecilia");
+        Set<String> keys = names.stream().map(StringUtil::phoneticKey).collect(Collectors.toSet());
+        assertEquals(names.size(), keys.size());
+    }
+
+    @Test
+    public void phoneticKey_firstLetterKept() {
+        assertEquals("ta7", StringUtil.phoneticKey("Tan"));
+        assertEquals("de7", StringUtil.phoneticKey("Dean"));
+        assertEquals("a4", StringUtil.phoneticKey("Ali"));
+        assertEquals("a", StringUtil.phoneticKey("Ai"));
+        assertEquals("", StringUtil.phoneticKey("-"));
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_specialCharacters_foldedOneCharAtATime() {
+        assertEquals('i', StringUtil.foldCase('\u0130')); // capital I with dot above
+        assertEquals('\u03c3', StringUtil.foldCase('\u03c2')); // final sigma
+        assertEquals('\u03c3', StringUtil.foldCase('\u03a3')); // capital sigma
+        assertEquals("irem νικολαοσ", StringUtil.foldCase("\u0130rem ΝΙΚΟΛΑΟς"));
+    }
+
+    @Test
+    public void foldCase_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -21,7 +21,10 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -30,6 +33,7 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SortByClosenessCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -37,6 +41,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookWriter;
 import seedu.address.storage.CommandHistory;
 import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.FileCommandHistoryStorage;
@@ -48,12 +53,15 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String ADD_COMMAND_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + HANDLE_DESC_AMY + CLOSENESS_DESC_HIGH;
 
     @TempDir
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
     private Logic logic;
+    private AddressBookWriter addressBookWriter;
 
     @BeforeEach
     public void setUp() {
@@ -64,7 +72,13 @@ public class LogicManagerTest {
                 .resolve("command_history.txt"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
         CommandHistory commandHistory = new CommandHistory(500, commandHistoryStorage);
-        logic = new LogicManager(model, storage, commandHistory);
+        addressBookWriter = new AddressBookWriter(storage);
+        logic = new LogicManager(model, commandHistory, addressBookWriter);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        addressBookWriter.close();
     }
 
     @Test
@@ -80,17 +94,48 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsErrorInBackground() throws Exception {
+        assertSaveErrorReportedForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsErrorInBackground() throws Exception {
+        assertSaveErrorReportedForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsNotChangingAddressBook_notSaved() throws Exception {
+        List<ReadOnlyAddressBook> saved = useStorageRecordingSaves(false);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("find alice");
+        logic.execute(SortByClosenessCommand.COMMAND_WORD + " o/asc");
+        addressBookWriter.flush();
+        assertTrue(saved.isEmpty());
+
+        logic.execute(ADD_COMMAND_AMY);
+        addressBookWriter.flush();
+        assertEquals(1, saved.size());
+        logic.execute(ListCommand.COMMAND_WORD);
+        addressBookWriter.flush();
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void execute_afterFailedSave_savesOnNextCommand() throws Exception {
+        List<ReadOnlyAddressBook> saved = useStorageRecordingSaves(true);
+        logic.execute(ADD_COMMAND_AMY);
+        addressBookWriter.flush();
+        assertTrue(saved.isEmpty());
+
+        // the change that could not be saved is still unsaved
+        logic.execute(ListCommand.COMMAND_WORD);
+        addressBookWriter.flush();
+        assertEquals(1, saved.size());
+        assertEquals(model.getAddressBook().getPersonList(), saved.get(0).getPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -236,13 +281,47 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Injects LogicManager with an AddressBookStorage that records every address book it saves, and returns them.
+     * If {@code failFirstSave}, the first save throws an {@code IOException} instead.
+     */
+    private List<ReadOnlyAddressBook> useStorageRecordingSaves(boolean failFirstSave) {
+        // only the writer thread adds to the list, and flush() makes its additions visible to the test
+        List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("RecordedAddressBook.json")) {
+                    private boolean hasFailed = !failFirstSave;
+
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (!hasFailed) {
+                            hasFailed = true;
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        saved.add(addressBook);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("RecordedUserPrefs.json"));
+        CommandHistoryStorage commandHistoryStorage =
+                new FileCommandHistoryStorage(temporaryFolder.resolve("RecordedCommandHistory.txt"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        // the writer of setUp is replaced, and closed so that its thread does not outlive the test
+        addressBookWriter.close();
+        addressBookWriter = new AddressBookWriter(storage);
+        logic = new LogicManager(model, new CommandHistory(500, commandHistoryStorage), addressBookWriter);
+        return saved;
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command succeeds, as the address book is saved in the background, and the error is reported afterwards.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveErrorReportedForExceptionFromStorage(IOException e, String expectedMessage)
+            throws CommandException, ParseException {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -261,14 +340,20 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
         CommandHistory commandHistory = new CommandHistory(500, commandHistoryStorage);
 
-        logic = new LogicManager(model, storage, commandHistory);
+        addressBookWriter.close();
+        addressBookWriter = new AddressBookWriter(storage);
+        logic = new LogicManager(model, commandHistory, addressBookWriter);
+        List<String> reportedErrors = new ArrayList<>();
+        logic.setSaveErrorHandler(reportedErrors::add);
 
         // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + HANDLE_DESC_AMY + CLOSENESS_DESC_HIGH;
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(ADD_COMMAND_AMY, String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(expectedPerson)), expectedModel);
+
+        addressBookWriter.flush();
+        assertEquals(List.of(expectedMessage), reportedErrors);
     }
 }
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandHintsTest {
+
+    @Test
+    public void suggest_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CommandHints.suggest(null, "e"));
+        assertThrows(NullPointerException.class, () -> CommandHints.suggest(List.of(), null));
+    }
+
+    @Test
+    public void suggest_historyFullOfMatches_commandWordsKept() {
+        List<String> pastCommands = IntStream.rangeClosed(1, CommandHints.MAX_SUGGESTIONS)
+                .mapToObj(index -> "edit " + index + " n/Alex")
+                .toList();
+        List<String> suggestions = CommandHints.suggest(pastCommands, "e");
+        assertEquals(CommandHints.MAX_SUGGESTIONS, suggestions.size());
+        assertEquals(pastCommands.subList(0, CommandHints.MAX_SUGGESTIONS - 2),
+                suggestions.subList(0, CommandHints.MAX_SUGGESTIONS - 2));
+        assertEquals(List.of("edit", "exit"), suggestions.subList(CommandHints.MAX_SUGGESTIONS - 2,
+                CommandHints.MAX_SUGGESTIONS));
+    }
+
+    @Test
+    public void suggest_commandWordInHistory_notRepeated() {
+        assertEquals(List.of("EXIT", "edit 1 n/Alex", "edit"),
+                CommandHints.suggest(List.of("EXIT", "edit 1 n/Alex"), "E"));
+    }
+
+    @Test
+    public void suggest_noCommandWordMatches_historyOnly() {
+        assertEquals(List.of("1"), CommandHints.suggest(List.of("1"), "1"));
+    }
+}
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -20,6 +23,8 @@ import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ClosenessComparator;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 
@@ -94,6 +99,25 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_tagDeleteOnFilteredSortedList_deletesShownPersonsInShownOrder() {
+        model.updateSortComparator(ClosenessComparator.ASCENDING);
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice", "Daniel", "Carl")));
+        DeleteCommand deleteCommand = new DeleteCommand(Set.of(new Tag("friends")));
+
+        // Benson is a friend too, but is not shown; Daniel is shown before Alice as he is less close
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 2,
+                Messages.format(DANIEL) + "\n" + Messages.format(ALICE));
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(DANIEL);
+        expectedModel.updateSortComparator(ClosenessComparator.ASCENDING);
+        expectedModel.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice", "Daniel", "Carl")));
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+        assertEquals(List.of(CARL), model.getSortedPersonList());
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,9 +23,12 @@ import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ClosenessRangePredicate;
+import seedu.address.model.person.EmailDomainPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.TagContainsKeywordPredicate;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (with Model) and unit tests for FilterCommand.
@@ -102,6 +106,41 @@ public class FilterCommandTest {
         assertEquals(Collections.emptyList(), model.getSortedPersonList());
     }
 
+    @Test
+    public void execute_closenessRange_personsInRangeFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        ClosenessRangePredicate predicate = new ClosenessRangePredicate(4, 5);
+        FilterCommand command = new FilterCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getSortedPersonList());
+    }
+
+    @Test
+    public void execute_emailDomain_personsAtDomainFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 7);
+        EmailDomainPredicate predicate = new EmailDomainPredicate(List.of("EXAMPLE.com"));
+        FilterCommand command = new FilterCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_domainCounts_showsCountsMostFirst() {
+        model.addPerson(new PersonBuilder().withEmail("e1234567@u.nus.edu").build());
+        expectedModel.addPerson(new PersonBuilder().withEmail("e1234567@u.nus.edu").build());
+        String expectedMessage = String.format(FilterCommand.MESSAGE_DOMAIN_COUNTS,
+                "@example.com: 7\n@u.nus.edu: 1");
+        assertCommandSuccess(FilterCommand.domainCounts(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_domainCountsOfEmptyAddressBook_showsNoDomains() {
+        Model emptyModel = new ModelManager();
+        assertCommandSuccess(FilterCommand.domainCounts(), emptyModel, FilterCommand.MESSAGE_NO_DOMAINS,
+                new ModelManager());
+    }
+
     @Test
     public void equals() throws Exception {
         Set<Tag> friendsTagSet = ParserUtil.parseTags(Collections.singletonList("friends"));
@@ -5,14 +5,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +24,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameDistanceComparator;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -85,6 +91,59 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON, CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_fuzzyKeyword_personsRankedByDistance() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(List.of("meyer"));
+        NameDistanceComparator ranking = new NameDistanceComparator(predicate);
+        FindCommand command = new FindCommand(predicate, ranking);
+        expectedModel.updateFilteredPersonList(predicate, ranking);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        // Elle Meyer matches exactly, and Meier is one edit away
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getSortedPersonList());
+    }
+
+    @Test
+    public void execute_plainFindAfterFuzzyFind_rankingNotKept() {
+        NameFuzzyMatchPredicate fuzzyPredicate = new NameFuzzyMatchPredicate(List.of("meyer"));
+        new FindCommand(fuzzyPredicate, new NameDistanceComparator(fuzzyPredicate)).execute(model);
+        new FindCommand(preparePredicate("meier meyer")).execute(model);
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getSortedPersonList());
+    }
+
+    @Test
+    public void execute_addressKeywords_personsRankedByRelevance() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        CommandResult result = FindCommand.byAddress(List.of("wall", "street")).execute(model);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        // Carl's address has both words; the other two only have the common "street"
+        assertEquals(Arrays.asList(CARL, DANIEL, GEORGE), model.getSortedPersonList());
+    }
+
+    @Test
+    public void execute_plainFindAfterAddressFind_rankingNotKept() {
+        FindCommand.byAddress(List.of("michegan")).execute(model);
+        assertEquals(Arrays.asList(ELLE), model.getSortedPersonList());
+        new FindCommand(preparePredicate("alice elle")).execute(model);
+        assertEquals(Arrays.asList(ALICE, ELLE), model.getSortedPersonList());
+    }
+
+    @Test
+    public void equals_addressKeywords() {
+        FindCommand addressCommand = FindCommand.byAddress(List.of("street"));
+        assertTrue(addressCommand.equals(FindCommand.byAddress(List.of("street"))));
+        assertFalse(addressCommand.equals(FindCommand.byAddress(List.of("avenue"))));
+        assertFalse(addressCommand.equals(new FindCommand(preparePredicate("street"))));
+    }
+
+    @Test
+    public void equals_differentRanking_returnsFalse() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(List.of("meyer"));
+        FindCommand rankedCommand = new FindCommand(predicate, new NameDistanceComparator(predicate));
+        assertTrue(rankedCommand.equals(new FindCommand(predicate, new NameDistanceComparator(predicate))));
+        assertFalse(rankedCommand.equals(new FindCommand(predicate)));
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
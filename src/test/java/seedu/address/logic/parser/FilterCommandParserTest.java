@@ -1,17 +1,27 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLOSENESS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.person.AndPredicate;
+import seedu.address.model.person.ClosenessRangePredicate;
+import seedu.address.model.person.EmailDomainPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NotPredicate;
+import seedu.address.model.person.OrPredicate;
 import seedu.address.model.person.TagContainsKeywordPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -77,4 +87,103 @@ public class FilterCommandParserTest {
         // 4. Test with extra whitespace and different order
         assertParseSuccess(parser, " \t t/owesMoney \n t/friends \t", expectedFilterCommand);
     }
+
+    @Test
+    public void parse_validClosenessRange_returnsFilterCommand() {
+        assertParseSuccess(parser, " c/>=4", new FilterCommand(new ClosenessRangePredicate(4, 5)));
+        assertParseSuccess(parser, " c/ 2 ", new FilterCommand(new ClosenessRangePredicate(2, 2)));
+    }
+
+    @Test
+    public void parse_invalidClosenessRange_throwsParseException() {
+        assertParseFailure(parser, " c/>=9", ClosenessRangePredicate.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_tagsAndClosenessRange_throwsParseException() {
+        assertParseFailure(parser, " t/friends c/>=4",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_repeatedClosenessRange_throwsParseException() {
+        assertParseFailure(parser, " c/>=4 c/<2", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_CLOSENESS));
+    }
+
+    @Test
+    public void parse_expression_returnsFilterCommand() {
+        IndexedPersonPredicate expected = new AndPredicate(List.of(
+                new TagContainsKeywordPredicate(Set.of(new Tag("friends"))),
+                new OrPredicate(List.of(new ClosenessRangePredicate(4, 5),
+                        new NameContainsKeywordsPredicate(List.of("alex")))),
+                new NotPredicate(new TagContainsKeywordPredicate(Set.of(new Tag("colleagues"))))));
+        assertParseSuccess(parser, " t/friends AND (c/>=4 OR n/alex) AND NOT t/colleagues",
+                new FilterCommand(expected));
+        assertParseSuccess(parser, " t/friends AND(c/>=4 OR n/alex)AND NOT t/colleagues",
+                new FilterCommand(expected));
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_returnsFilterCommand() {
+        IndexedPersonPredicate expected = new OrPredicate(List.of(
+                new TagContainsKeywordPredicate(Set.of(new Tag("family"))),
+                new AndPredicate(List.of(new TagContainsKeywordPredicate(Set.of(new Tag("friends"))),
+                        new ClosenessRangePredicate(5, 5)))));
+        assertParseSuccess(parser, " t/family OR t/friends AND c/5", new FilterCommand(expected));
+    }
+
+    @Test
+    public void parse_nameKeywords_returnsFilterCommand() {
+        // consecutive keywords match any of them
+        assertParseSuccess(parser, " n/alex n/bernice",
+                new FilterCommand(new NameContainsKeywordsPredicate(List.of("alex", "bernice"))));
+
+        // lower-case operators and spaces are part of the keyword
+        assertParseSuccess(parser, " n/tom and jerry ",
+                new FilterCommand(new NameContainsKeywordsPredicate(List.of("tom and jerry"))));
+
+        // empty keyword
+        assertParseFailure(parser, " n/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_emailDomains_returnsFilterCommand() {
+        // the @ in front is optional, and consecutive domains match any of them
+        assertParseSuccess(parser, " e/@u.nus.edu e/example.com",
+                new FilterCommand(new EmailDomainPredicate(List.of("u.nus.edu", "example.com"))));
+
+        assertParseSuccess(parser, " t/friends AND NOT e/@example.com", new FilterCommand(new AndPredicate(List.of(
+                new TagContainsKeywordPredicate(Set.of(new Tag("friends"))),
+                new NotPredicate(new EmailDomainPredicate(List.of("example.com")))))));
+
+        // empty domain, whole email or spaces
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " e/@", expectedMessage);
+        assertParseFailure(parser, " e/alice@example.com", expectedMessage);
+        assertParseFailure(parser, " e/@example com", expectedMessage);
+    }
+
+    @Test
+    public void parse_domainCountsFlag_returnsDomainCountsCommand() {
+        assertParseSuccess(parser, "  --domains ", FilterCommand.domainCounts());
+    }
+
+    @Test
+    public void parse_malformedExpression_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " t/friends AND", expectedMessage); // missing operand
+        assertParseFailure(parser, " AND t/friends", expectedMessage); // leading operator
+        assertParseFailure(parser, " NOT", expectedMessage); // nothing to negate
+        assertParseFailure(parser, " (t/friends", expectedMessage); // unclosed parenthesis
+        assertParseFailure(parser, " t/friends)", expectedMessage); // unopened parenthesis
+        assertParseFailure(parser, " ()", expectedMessage); // empty parentheses
+        assertParseFailure(parser, " (t/friends) (c/5)", expectedMessage); // missing operator
+    }
+
+    @Test
+    public void parse_invalidValueWithinExpression_throwsParseException() {
+        assertParseFailure(parser, " t/friends AND NOT c/>=9", ClosenessRangePredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " (c/5 OR t/friends!)", Tag.MESSAGE_CONSTRAINTS);
+    }
 }
@@ -5,11 +5,19 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.IdentityFieldMatchesPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameDistanceComparator;
+import seedu.address.model.person.NameFuzzyMatchPredicate;
+import seedu.address.model.person.NameSoundsLikePredicate;
+import seedu.address.model.person.OrPredicate;
+import seedu.address.model.person.PhoneEndsWithPredicate;
 
 public class FindCommandParserTest {
 
@@ -30,4 +38,105 @@ public class FindCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
+
+    @Test
+    public void parse_fieldValues_returnsFindCommand() {
+        assertParseSuccess(parser, " p/91234567",
+                new FindCommand(new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("91234567"))));
+        assertParseSuccess(parser, " e/alice@ e/bob@",
+                new FindCommand(new IdentityFieldMatchesPredicate(IdentityField.EMAIL, List.of("alice@", "bob@"))));
+        assertParseSuccess(parser, " \t h/@someone ",
+                new FindCommand(new IdentityFieldMatchesPredicate(IdentityField.HANDLE, List.of("@someone"))));
+    }
+
+    @Test
+    public void parse_multipleFields_throwsParseException() {
+        assertParseFailure(parser, " p/9123 e/alice@",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_nameKeywordsAndField_throwsParseException() {
+        assertParseFailure(parser, " Alice p/9123",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_emptyFieldValue_throwsParseException() {
+        assertParseFailure(parser, " p/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyKeywords_returnsRankedFindCommand() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(Arrays.asList("Alcie", "Bbo"));
+        assertParseSuccess(parser, " --fuzzy Alcie \t Bbo ",
+                new FindCommand(predicate, new NameDistanceComparator(predicate)));
+    }
+
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " --fuzzy ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " --fuzzy p/9123",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_soundsLikeKeywords_returnsFindCommand() {
+        assertParseSuccess(parser, " ~Muhammad ~ng",
+                new FindCommand(new NameSoundsLikePredicate(Arrays.asList("Muhammad", "ng"))));
+
+        // mixed with substring keywords
+        assertParseSuccess(parser, " ali ~Muhammad", new FindCommand(new OrPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("ali")),
+                new NameSoundsLikePredicate(List.of("Muhammad"))))));
+    }
+
+    @Test
+    public void parse_emptySoundsLikeKeyword_throwsParseException() {
+        assertParseFailure(parser, " ali ~",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_addressKeywords_returnsAddressFindCommand() {
+        assertParseSuccess(parser, " a/Clementi  street ", FindCommand.byAddress(Arrays.asList("Clementi", "street")));
+
+        // keywords over several a/ prefixes are combined
+        assertParseSuccess(parser, " a/Clementi a/street", FindCommand.byAddress(Arrays.asList("Clementi", "street")));
+    }
+
+    @Test
+    public void parse_addressKeywordsWithOtherArguments_throwsParseException() {
+        assertParseFailure(parser, " a/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " Alice a/street",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " p/9123 a/street",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_partialPhoneNumbers_returnsFindCommand() {
+        assertParseSuccess(parser, " p/...1234",
+                new FindCommand(new PhoneEndsWithPredicate(List.of("1234"))));
+        assertParseSuccess(parser, " p/\u20261234",
+                new FindCommand(new PhoneEndsWithPredicate(List.of("1234"))));
+        assertParseSuccess(parser, " p/9123...",
+                new FindCommand(new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("9123"))));
+
+        // leading and trailing digits mixed
+        assertParseSuccess(parser, " p/9123 p/...1234", new FindCommand(new OrPredicate(List.of(
+                new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("9123")),
+                new PhoneEndsWithPredicate(List.of("1234"))))));
+    }
+
+    @Test
+    public void parse_phoneEllipsisWithoutDigits_throwsParseException() {
+        assertParseFailure(parser, " p/...",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " p/...12...",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
 }
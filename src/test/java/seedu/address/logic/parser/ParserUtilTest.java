@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
+import seedu.address.model.person.ClosenessRangePredicate;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
@@ -206,4 +207,14 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseClosenessRange_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseClosenessRange(">=6"));
+    }
+
+    @Test
+    public void parseClosenessRange_validValueWithWhitespace_returnsTrimmedRange() throws Exception {
+        assertEquals(new ClosenessRangePredicate(4, 5), ParserUtil.parseClosenessRange(" >=4 "));
+    }
 }
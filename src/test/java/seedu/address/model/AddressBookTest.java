@@ -2,24 +2,29 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.index.CompressedBitmap;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -77,6 +82,124 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsWithAnyTag_afterAddAndRemove_tracksPersonList() {
+        addressBook.addPerson(ALICE); // friends
+        addressBook.addPerson(BENSON); // owesMoney, friends
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsWithAnyTag(Set.of(new Tag("friends"))));
+
+        addressBook.removePerson(ALICE);
+        assertEquals(Set.of(BENSON), addressBook.getPersonsWithAnyTag(Set.of(new Tag("friends"))));
+    }
+
+    @Test
+    public void getPersonsWithAnyTag_afterSetPerson_reflectsEditedTags() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getPersonsWithAnyTag(Set.of(new Tag("friends"))).isEmpty());
+        assertEquals(Set.of(editedAlice), addressBook.getPersonsWithAnyTag(Set.of(new Tag(VALID_TAG_HUSBAND))));
+    }
+
+    @Test
+    public void getPersonsWithAnyTag_afterResetData_reflectsNewData() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(new AddressBook());
+        assertTrue(addressBook.getPersonsWithAnyTag(Set.of(new Tag("friends"))).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithAnyTag_multipleTags_returnsUnion() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Set.of(ALICE, BENSON),
+                addressBook.getPersonsWithAnyTag(Set.of(new Tag("owesMoney"), new Tag("friends"))));
+    }
+
+    @Test
+    public void getPersonsWithNameContainingAny_afterSetPerson_reflectsEditedName() {
+        addressBook.addPerson(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertTrue(addressBook.getPersonsWithNameContainingAny(List.of("pauline")).isEmpty());
+        assertEquals(Set.of(renamedAlice), addressBook.getPersonsWithNameContainingAny(List.of("CIA T")));
+    }
+
+    @Test
+    public void getPersonsWithNameContainingAny_shortKeyword_returnsPersonsContainingIt() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsWithNameContainingAny(List.of("e")));
+    }
+
+    @Test
+    public void getPersonsWithClosenessBetween_range_returnsPersonsInRange() {
+        addressBook.addPerson(ALICE); // 5
+        addressBook.addPerson(BENSON); // 3
+        assertEquals(Set.of(ALICE), addressBook.getPersonsWithClosenessBetween(4, 5));
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsWithClosenessBetween(Integer.MIN_VALUE, 5));
+        assertTrue(addressBook.getPersonsWithClosenessBetween(6, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithClosenessBetween_afterSetPerson_reflectsEditedCloseness() {
+        addressBook.addPerson(BENSON);
+        Person closerBenson = new PersonBuilder(BENSON).withCloseness("5").build();
+        addressBook.setPerson(BENSON, closerBenson);
+        assertTrue(addressBook.getPersonsWithClosenessBetween(3, 3).isEmpty());
+        assertEquals(Set.of(closerBenson), addressBook.getPersonsWithClosenessBetween(5, 5));
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsOrdinal() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        CompressedBitmap aliceOrdinals = addressBook.toOrdinals(List.of(ALICE));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(aliceOrdinals, addressBook.toOrdinals(List.of(editedAlice)));
+    }
+
+    @Test
+    public void getOrdinalsNotIn_afterRemovePerson_excludesRemovedPerson() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(ALICE);
+        assertEquals(Set.of(BENSON), addressBook.toPersons(addressBook.getOrdinalsNotIn(new CompressedBitmap())));
+    }
+
+    @Test
+    public void getPersonsWithAddressRelevantTo_editedAddress_ranksByNewAddress() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("2 Clementi Road").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice, BENSON),
+                addressBook.getPersonsWithAddressRelevantTo(List.of("Clementi", "road"), 10));
+        assertTrue(addressBook.getPersonsWithAddressRelevantTo(List.of("Jurong"), 10).isEmpty());
+    }
+
+    @Test
+    public void getVersion_changesOnlyWhenPersonsChange() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonsWithAnyTag(Set.of());
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.setPerson(ALICE, BENSON);
+        assertNotEquals(version, addressBook.getVersion());
+        version = addressBook.getVersion();
+        addressBook.removePerson(BENSON);
+        assertNotEquals(version, addressBook.getVersion());
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
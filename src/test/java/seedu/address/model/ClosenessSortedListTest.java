@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.ClosenessComparator;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ClosenessSortedListTest {
+
+    // closeness: ALICE 5, BENSON 3, CARL 2, DANIEL 4, ELLE 1, FIONA 2, GEORGE 3
+    private final ObservableList<Person> source = FXCollections.observableArrayList(getTypicalPersons());
+    private final ClosenessSortedList sortedList = new ClosenessSortedList(source);
+
+    @Test
+    public void constructor_noComparator_keepsSourceOrder() {
+        assertEquals(source, sortedList);
+    }
+
+    @Test
+    public void setComparator_ascending_stableByCloseness() {
+        sortedList.setComparator(ClosenessComparator.ASCENDING);
+        assertEquals(List.of(ELLE, CARL, FIONA, BENSON, GEORGE, DANIEL, ALICE), sortedList);
+    }
+
+    @Test
+    public void setComparator_descending_stableByCloseness() {
+        sortedList.setComparator(ClosenessComparator.DESCENDING);
+        assertEquals(List.of(ALICE, DANIEL, BENSON, GEORGE, CARL, FIONA, ELLE), sortedList);
+    }
+
+    @Test
+    public void setComparator_null_restoresSourceOrder() {
+        sortedList.setComparator(ClosenessComparator.DESCENDING);
+        sortedList.setComparator(null);
+        assertEquals(source, sortedList);
+    }
+
+    @Test
+    public void setComparator_matchesComparisonSort() {
+        sortedList.setComparator(ClosenessComparator.DESCENDING);
+        List<Person> expected = new ArrayList<>(source);
+        expected.sort(ClosenessComparator.DESCENDING);
+        assertEquals(expected, sortedList);
+    }
+
+    @Test
+    public void sourceChanged_whileSorted_keepsOrder() {
+        sortedList.setComparator(ClosenessComparator.ASCENDING);
+        Person newPerson = new PersonBuilder().withCloseness("2").build();
+
+        source.add(newPerson);
+        assertEquals(List.of(ELLE, CARL, FIONA, newPerson, BENSON, GEORGE, DANIEL, ALICE), sortedList);
+
+        source.remove(BENSON);
+        assertEquals(List.of(ELLE, CARL, FIONA, newPerson, GEORGE, DANIEL, ALICE), sortedList);
+
+        Person closerCarl = new PersonBuilder(CARL).withCloseness("5").build();
+        source.set(source.indexOf(CARL), closerCarl);
+        assertEquals(List.of(ELLE, FIONA, newPerson, GEORGE, DANIEL, ALICE, closerCarl), sortedList);
+    }
+
+    @Test
+    public void sourceChanged_replaceAll_resorts() {
+        sortedList.setComparator(ClosenessComparator.ASCENDING);
+        source.setAll(ALICE, ELLE);
+        assertEquals(List.of(ELLE, ALICE), sortedList);
+        source.setAll();
+        assertEquals(List.of(), sortedList);
+    }
+
+    @Test
+    public void getSourceIndex_sorted_mapsToSource() {
+        sortedList.setComparator(ClosenessComparator.DESCENDING);
+        for (int i = 0; i < sortedList.size(); i++) {
+            assertEquals(sortedList.get(i), source.get(sortedList.getSourceIndex(i)));
+            assertEquals(i, sortedList.getViewIndex(sortedList.getSourceIndex(i)));
+        }
+    }
+}
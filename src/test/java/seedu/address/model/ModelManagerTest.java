@@ -7,16 +7,27 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ClosenessComparator;
+import seedu.address.model.person.ClosenessRangePredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -92,6 +103,81 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_filtersByMatches() {
+        modelManager.addPerson(ALICE); // friends
+        modelManager.addPerson(CARL); // no tags
+        modelManager.updateFilteredPersonList(new TagContainsKeywordPredicate(Set.of(new Tag("friends"))));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void setPerson_indexedFilter_keepsEditedPersonOnlyIfStillMatching() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new TagContainsKeywordPredicate(Set.of(new Tag("friends"))));
+
+        Person stillFriend = new PersonBuilder(ALICE).withAddress("Somewhere else").build();
+        modelManager.setPerson(ALICE, stillFriend);
+        Person noLongerFriend = new PersonBuilder(BENSON).withTags().build();
+        modelManager.setPerson(BENSON, noLongerFriend);
+
+        assertEquals(List.of(stillFriend), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_indexedPredicate_returnsMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        assertEquals(Set.of(ALICE),
+                modelManager.findPersons(new TagContainsKeywordPredicate(Set.of(new Tag("friends")))));
+    }
+
+    @Test
+    public void updateSortComparator_closenessComparator_ordersByCloseness() {
+        modelManager.addPerson(BENSON); // 3
+        modelManager.addPerson(ALICE); // 5
+        modelManager.addPerson(CARL); // 2
+        modelManager.updateSortComparator(ClosenessComparator.DESCENDING);
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getSortedPersonList());
+
+        modelManager.updateSortComparator(null);
+        assertEquals(List.of(BENSON, ALICE, CARL), modelManager.getSortedPersonList());
+    }
+
+    @Test
+    public void updateSortComparator_closenessComparatorWithFilter_ordersFilteredPersons() {
+        modelManager.addPerson(DANIEL); // 4
+        modelManager.addPerson(CARL); // 2
+        modelManager.addPerson(ALICE); // 5
+        modelManager.updateSortComparator(ClosenessComparator.DESCENDING);
+        modelManager.updateFilteredPersonList(new ClosenessRangePredicate(4, 5));
+        assertEquals(List.of(ALICE, DANIEL), modelManager.getSortedPersonList());
+
+        Person closerCarl = new PersonBuilder(CARL).withCloseness("5").build();
+        modelManager.setPerson(CARL, closerCarl);
+        assertEquals(List.of(closerCarl, ALICE, DANIEL), modelManager.getSortedPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_afterRankedFilter_previousOrderRestored() {
+        modelManager.addPerson(BENSON); // 3
+        modelManager.addPerson(ALICE); // 5
+        modelManager.addPerson(CARL); // 2
+        modelManager.updateSortComparator(ClosenessComparator.DESCENDING);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing(person -> person.getName().fullName));
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getSortedPersonList());
+
+        modelManager.updateSortComparator(null);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        assertEquals(List.of(CARL, BENSON, ALICE), modelManager.getSortedPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(BENSON, ALICE, CARL), modelManager.getSortedPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
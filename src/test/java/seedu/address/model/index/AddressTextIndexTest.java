@@ -0,0 +1,102 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressTextIndexTest {
+
+    private static final Person CLEMENTI = new PersonBuilder().withName("Clementi Person")
+            .withAddress("311, Clementi Ave 2, #02-25").build();
+    private static final Person WALL_STREET = new PersonBuilder().withName("Wall Street Person")
+            .withAddress("wall street").build();
+    private static final Person TENTH_STREET = new PersonBuilder().withName("Tenth Street Person")
+            .withAddress("10th street").build();
+    private static final Person LONG_STREET = new PersonBuilder().withName("Long Street Person")
+            .withAddress("Blk 12 Upper Serangoon Road, off Serangoon street, #10-01").build();
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final AddressTextIndex addressIndex = new AddressTextIndex(ordinals);
+
+    @Test
+    public void tokenize_punctuationAndCase_returnsLowerCaseWords() {
+        assertEquals(List.of("311", "clementi", "ave", "2", "02", "25"),
+                AddressTextIndex.tokenize("311, Clementi Ave 2, #02-25"));
+        assertTrue(AddressTextIndex.tokenize(" ,# ").isEmpty());
+    }
+
+    @Test
+    public void search_rareAndCommonTokens_rareTokenCountsForMore() {
+        add(CLEMENTI);
+        add(WALL_STREET);
+        add(TENTH_STREET);
+        add(LONG_STREET);
+        // "wall" is in one address, "street" in three
+        assertEquals(List.of(WALL_STREET, TENTH_STREET, LONG_STREET), search(List.of("street", "wall"), 10));
+    }
+
+    @Test
+    public void search_sameMatches_shorterAddressRanksHigher() {
+        add(LONG_STREET);
+        add(TENTH_STREET);
+        assertEquals(List.of(TENTH_STREET, LONG_STREET), search(List.of("street"), 10));
+    }
+
+    @Test
+    public void search_repeatedToken_ranksHigher() {
+        add(CLEMENTI);
+        add(LONG_STREET);
+        add(new PersonBuilder().withName("Other").withAddress("Serangoon North Ave 1").build());
+        assertEquals(LONG_STREET, search(List.of("serangoon"), 10).get(0));
+    }
+
+    @Test
+    public void search_limit_keepsBestMatches() {
+        add(CLEMENTI);
+        add(WALL_STREET);
+        add(TENTH_STREET);
+        add(LONG_STREET);
+        assertEquals(List.of(WALL_STREET, TENTH_STREET), search(List.of("wall", "street"), 2));
+        assertTrue(search(List.of("street"), 0).isEmpty());
+    }
+
+    @Test
+    public void search_noMatchingToken_returnsEmptyList() {
+        add(CLEMENTI);
+        assertTrue(search(List.of("tokyo"), 10).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerFound() {
+        add(WALL_STREET);
+        add(TENTH_STREET);
+        addressIndex.remove(WALL_STREET);
+        ordinals.remove(WALL_STREET);
+        assertEquals(List.of(TENTH_STREET), search(List.of("wall", "street"), 10));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        add(WALL_STREET);
+        addressIndex.clear();
+        assertTrue(search(List.of("street"), 10).isEmpty());
+    }
+
+    private void add(Person person) {
+        ordinals.add(person);
+        addressIndex.add(person);
+    }
+
+    private List<Person> search(List<String> queryTokens, int limit) {
+        return addressIndex.search(queryTokens, limit).stream()
+                .map(ordinals::getPerson)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class ClosenessIndexTest {
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final ClosenessIndex closenessIndex = new ClosenessIndex(ordinals);
+
+    @Test
+    public void add_persons_bucketsByLevel() {
+        add(ALICE); // 5
+        add(CARL); // 2
+        add(FIONA); // 2
+        assertEquals(Set.of(CARL, FIONA), personsBetween(2, 2));
+        assertEquals(Set.of(ALICE), personsBetween(5, 5));
+        assertTrue(personsBetween(1, 1).isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsBetween_range_returnsEveryBucketInRange() {
+        add(ALICE); // 5
+        add(CARL); // 2
+        add(DANIEL); // 4
+        assertEquals(Set.of(ALICE, DANIEL), personsBetween(4, 5));
+        assertEquals(Set.of(CARL, DANIEL), personsBetween(1, 4));
+        assertTrue(personsBetween(5, 4).isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsBetween_levelsOutOfRange_clampedToValidLevels() {
+        add(ALICE);
+        assertTrue(personsBetween(0, 0).isEmpty());
+        assertTrue(personsBetween(6, 6).isEmpty());
+        assertEquals(Set.of(ALICE), personsBetween(0, 6));
+    }
+
+    @Test
+    public void remove_indexedPerson_removesFromBucket() {
+        add(CARL);
+        add(FIONA);
+        closenessIndex.remove(CARL);
+        ordinals.remove(CARL);
+        assertEquals(Set.of(FIONA), personsBetween(2, 2));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        add(ALICE);
+        closenessIndex.clear();
+        assertTrue(personsBetween(5, 5).isEmpty());
+    }
+
+    private void add(Person person) {
+        ordinals.add(person);
+        closenessIndex.add(person);
+    }
+
+    private Set<Person> personsBetween(int minLevel, int maxLevel) {
+        return ordinals.toPersons(closenessIndex.getOrdinalsBetween(minLevel, maxLevel));
+    }
+}
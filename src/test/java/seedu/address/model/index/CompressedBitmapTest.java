@@ -0,0 +1,157 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void contains() {
+        CompressedBitmap bitmap = CompressedBitmap.of(3, 70000, Integer.MAX_VALUE);
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70000));
+        assertTrue(bitmap.contains(Integer.MAX_VALUE));
+        assertFalse(bitmap.contains(4));
+        assertFalse(bitmap.contains(-3));
+        assertEquals(3, bitmap.getCardinality());
+    }
+
+    @Test
+    public void remove() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2, 70000);
+        bitmap.remove(2);
+        bitmap.remove(70000);
+        bitmap.remove(5); // absent
+        bitmap.remove(-1); // never present
+        assertEquals(CompressedBitmap.of(1), bitmap);
+        bitmap.remove(1);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    public void forEach_valuesInAscendingOrder() {
+        CompressedBitmap bitmap = CompressedBitmap.of(70000, 5, 65536, 1);
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        assertEquals(List.of(1, 5, 65536, 70000), values);
+    }
+
+    @Test
+    public void add_manyValuesInOneChunk_switchesToDenseLayoutAndBack() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 3 * CompressedBitmap.ARRAY_LIMIT; i += 2) {
+            bitmap.add(i);
+        }
+        assertEquals(3 * CompressedBitmap.ARRAY_LIMIT / 2, bitmap.getCardinality());
+        assertTrue(bitmap.contains(2 * CompressedBitmap.ARRAY_LIMIT));
+        assertFalse(bitmap.contains(2 * CompressedBitmap.ARRAY_LIMIT + 1));
+
+        for (int i = 0; i < 3 * CompressedBitmap.ARRAY_LIMIT; i += 4) {
+            bitmap.remove(i);
+        }
+        assertEquals(3 * CompressedBitmap.ARRAY_LIMIT / 4, bitmap.getCardinality());
+        assertTrue(bitmap.contains(2));
+        assertFalse(bitmap.contains(4));
+    }
+
+    @Test
+    public void setOperations_operandsUnchanged() {
+        CompressedBitmap first = CompressedBitmap.of(1, 2, 3);
+        CompressedBitmap second = CompressedBitmap.of(2, 3, 4);
+        assertEquals(CompressedBitmap.of(2, 3), first.and(second));
+        assertEquals(CompressedBitmap.of(1, 2, 3, 4), first.or(second));
+        assertEquals(CompressedBitmap.of(1), first.andNot(second));
+        assertEquals(CompressedBitmap.of(1, 2, 3), first);
+        assertEquals(CompressedBitmap.of(2, 3, 4), second);
+    }
+
+    @Test
+    public void copy_changeOriginal_copyUnchanged() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2);
+        CompressedBitmap copy = bitmap.copy();
+        bitmap.add(3);
+        bitmap.remove(1);
+        assertEquals(CompressedBitmap.of(1, 2), copy);
+    }
+
+    @Test
+    public void setOperations_randomSparseAndDenseBitmaps_matchBitSet() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 20; round++) {
+            BitSet firstBits = randomBits(random);
+            BitSet secondBits = randomBits(random);
+            CompressedBitmap first = toBitmap(firstBits);
+            CompressedBitmap second = toBitmap(secondBits);
+
+            BitSet and = (BitSet) firstBits.clone();
+            and.and(secondBits);
+            BitSet or = (BitSet) firstBits.clone();
+            or.or(secondBits);
+            BitSet andNot = (BitSet) firstBits.clone();
+            andNot.andNot(secondBits);
+
+            assertEquals(toBitmap(and), first.and(second));
+            assertEquals(toBitmap(or), first.or(second));
+            assertEquals(toBitmap(andNot), first.andNot(second));
+            assertEquals(and.cardinality(), first.and(second).getCardinality());
+        }
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2);
+
+        // same values -> returns true
+        assertTrue(bitmap.equals(CompressedBitmap.of(2, 1)));
+        assertEquals(bitmap.hashCode(), CompressedBitmap.of(2, 1).hashCode());
+
+        // same object -> returns true
+        assertTrue(bitmap.equals(bitmap));
+
+        // null -> returns false
+        assertFalse(bitmap.equals(null));
+
+        // different values -> returns false
+        assertNotEquals(bitmap, CompressedBitmap.of(1, 3));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("[1, 70000]", CompressedBitmap.of(70000, 1).toString());
+    }
+
+    /**
+     * Returns a random set of values over three chunks, each of which is either sparse or dense.
+     */
+    private static BitSet randomBits(Random random) {
+        BitSet bits = new BitSet();
+        for (int chunk = 0; chunk < 3; chunk++) {
+            int count = random.nextBoolean() ? random.nextInt(100) : 5000 + random.nextInt(30000);
+            for (int i = 0; i < count; i++) {
+                bits.set((chunk << 16) | random.nextInt(1 << 16));
+            }
+        }
+        return bits;
+    }
+
+    private static CompressedBitmap toBitmap(BitSet bits) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bits.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailDomainIndexTest {
+
+    private static final Person ALEX = new PersonBuilder().withName("Alex").withEmail("alex@u.nus.edu").build();
+    private static final Person BETTY = new PersonBuilder().withName("Betty").withEmail("betty@U.NUS.EDU").build();
+    private static final Person CHARLIE = new PersonBuilder().withName("Charlie")
+            .withEmail("charlie@gmail.com").build();
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final EmailDomainIndex domainIndex = new EmailDomainIndex(ordinals);
+
+    @Test
+    public void getOrdinalsAtAny_domains_returnsPersonsAtAnyOfThem() {
+        add(ALEX);
+        add(BETTY);
+        add(CHARLIE);
+        assertEquals(Set.of(ALEX, BETTY), personsAt("u.nus.edu"));
+        assertEquals(Set.of(ALEX, BETTY, CHARLIE), personsAt("GMAIL.com", "u.nus.edu"));
+        assertTrue(personsAt("nus.edu").isEmpty());
+    }
+
+    @Test
+    public void getCounts_afterAddAndRemove_keptUpToDate() {
+        add(ALEX);
+        add(BETTY);
+        add(CHARLIE);
+        assertEquals(Map.of("gmail.com", 1, "u.nus.edu", 2), domainIndex.getCounts());
+        assertEquals(List.of("gmail.com", "u.nus.edu"), List.copyOf(domainIndex.getCounts().keySet()));
+
+        remove(CHARLIE);
+        remove(ALEX);
+        assertEquals(Map.of("u.nus.edu", 1), domainIndex.getCounts());
+        assertEquals(Set.of(BETTY), personsAt("u.nus.edu"));
+    }
+
+    @Test
+    public void remove_personNotInIndex_countsUnchanged() {
+        add(ALEX);
+        ordinals.add(BETTY);
+        domainIndex.remove(BETTY);
+        assertEquals(Map.of("u.nus.edu", 1), domainIndex.getCounts());
+    }
+
+    @Test
+    public void getCounts_modifyResult_throwsUnsupportedOperationException() {
+        add(ALEX);
+        assertThrows(UnsupportedOperationException.class, () -> domainIndex.getCounts().clear());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        add(ALEX);
+        domainIndex.clear();
+        assertTrue(personsAt("u.nus.edu").isEmpty());
+        assertTrue(domainIndex.getCounts().isEmpty());
+    }
+
+    private void add(Person person) {
+        ordinals.add(person);
+        domainIndex.add(person);
+    }
+
+    private void remove(Person person) {
+        domainIndex.remove(person);
+        ordinals.remove(person);
+    }
+
+    private Set<Person> personsAt(String... domains) {
+        return ordinals.toPersons(domainIndex.getOrdinalsAtAny(List.of(domains)));
+    }
+}
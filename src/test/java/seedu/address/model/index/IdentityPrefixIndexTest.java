@@ -0,0 +1,59 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class IdentityPrefixIndexTest {
+
+    private final IdentityPrefixIndex phoneIndex = new IdentityPrefixIndex(IdentityField.PHONE);
+    private final IdentityPrefixIndex emailIndex = new IdentityPrefixIndex(IdentityField.EMAIL);
+
+    @Test
+    public void getPersons_prefix_returnsPersonsStartingWithPrefix() {
+        phoneIndex.add(ALICE); // 94351253
+        phoneIndex.add(ELLE); // 94822244
+        phoneIndex.add(FIONA); // 94824272
+        phoneIndex.add(GEORGE); // 94824422
+        assertEquals(Set.of(ELLE, FIONA, GEORGE), phoneIndex.getPersons("948"));
+        assertEquals(Set.of(FIONA, GEORGE), phoneIndex.getPersons("94824"));
+        assertEquals(Set.of(ALICE, ELLE, FIONA, GEORGE), phoneIndex.getPersons(""));
+        assertTrue(phoneIndex.getPersons("8").isEmpty());
+    }
+
+    @Test
+    public void getPersons_differentCase_ignoresCase() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail("Alice@Example.com").build();
+        emailIndex.add(upperCaseAlice);
+        assertEquals(Set.of(upperCaseAlice), emailIndex.getPersons("aLiCe@"));
+    }
+
+    @Test
+    public void getPersons_valuesDifferingOnlyInCase_keepsBoth() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail("ALICE@example.com").build();
+        emailIndex.add(ALICE);
+        emailIndex.add(upperCaseAlice);
+        assertEquals(Set.of(ALICE, upperCaseAlice), emailIndex.getPersons("alice"));
+
+        emailIndex.remove(ALICE);
+        assertEquals(Set.of(upperCaseAlice), emailIndex.getPersons("alice"));
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        phoneIndex.add(ALICE);
+        phoneIndex.clear();
+        assertTrue(phoneIndex.getPersons("").isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.IdentityField;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class IdentityValueIndexTest {
+
+    private final IdentityValueIndex emailIndex = new IdentityValueIndex(IdentityField.EMAIL);
+
+    @Test
+    public void getPersons_completeValue_returnsOwnerOnly() {
+        emailIndex.add(ALICE); // alice@example.com
+        emailIndex.add(BENSON);
+        assertEquals(Set.of(ALICE), emailIndex.getPersons("alice@example.com"));
+        assertTrue(emailIndex.getPersons("alice@example.co").isEmpty());
+    }
+
+    @Test
+    public void getPersons_differentCase_ignoresCase() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail("Alice@Example.com").build();
+        emailIndex.add(upperCaseAlice);
+        assertEquals(Set.of(upperCaseAlice), emailIndex.getPersons("ALICE@example.COM"));
+    }
+
+    @Test
+    public void getPersons_valuesDifferingOnlyInCase_keepsBoth() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail("ALICE@example.com").build();
+        emailIndex.add(ALICE);
+        emailIndex.add(upperCaseAlice);
+        assertEquals(Set.of(ALICE, upperCaseAlice), emailIndex.getPersons("alice@example.com"));
+
+        emailIndex.remove(ALICE);
+        assertEquals(Set.of(upperCaseAlice), emailIndex.getPersons("alice@example.com"));
+        emailIndex.remove(upperCaseAlice);
+        assertTrue(emailIndex.getPersons("alice@example.com").isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        emailIndex.add(ALICE);
+        emailIndex.clear();
+        assertTrue(emailIndex.getPersons("alice@example.com").isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameBkTreeTest {
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final NameBkTree nameTree = new NameBkTree(ordinals);
+
+    @Test
+    public void search_emptyTree_returnsNoMatches() {
+        assertTrue(nameTree.search("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void search_tokensWithinDistance_nearestFirst() {
+        add(BENSON); // Benson Meier
+        add(DANIEL); // Daniel Meier
+        add(ELLE); // Elle Meyer
+        List<NameBkTree.TokenMatch> matches = nameTree.search("meyer", 1);
+        assertEquals(List.of("meyer", "meier"), tokensOf(matches));
+        assertEquals(List.of(0, 1), matches.stream().map(NameBkTree.TokenMatch::getDistance)
+                .collect(Collectors.toList()));
+        assertEquals(Set.of(BENSON, DANIEL), ordinals.toPersons(matches.get(1).getOrdinals()));
+    }
+
+    @Test
+    public void search_tokensBeyondDistance_notMatched() {
+        add(ALICE); // Alice Pauline
+        assertTrue(nameTree.search("alxce", 0).isEmpty());
+        assertEquals(List.of("alice"), tokensOf(nameTree.search("alxce", 1)));
+        assertTrue(nameTree.search("alxxx", 2).isEmpty());
+    }
+
+    @Test
+    public void search_removedPerson_tokenSkipped() {
+        add(ALICE);
+        add(BENSON);
+        nameTree.remove(ALICE);
+        ordinals.remove(ALICE);
+        assertTrue(nameTree.search("alice", 1).isEmpty());
+        assertEquals(List.of("benson"), tokensOf(nameTree.search("bensen", 1)));
+    }
+
+    @Test
+    public void remove_mostTokensUnused_remainingTokensStillFound() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Person person = new PersonBuilder().withName("Person" + i).build();
+            persons.add(person);
+            add(person);
+        }
+        for (Person person : persons.subList(0, 90)) {
+            nameTree.remove(person);
+            ordinals.remove(person);
+        }
+        add(persons.get(5));
+
+        assertEquals(List.of("person5"), tokensOf(nameTree.search("person5", 0)));
+        assertEquals(List.of("person95"), tokensOf(nameTree.search("person95", 0)));
+        assertTrue(nameTree.search("person50", 0).isEmpty());
+        assertEquals(11, nameTree.search("person", 2).size());
+    }
+
+    @Test
+    public void clear_removesAllTokens() {
+        add(ALICE);
+        nameTree.clear();
+        assertTrue(nameTree.search("alice", 0).isEmpty());
+    }
+
+    @Test
+    public void search_manyTokens_sameAsComparingEveryToken() {
+        String[] syllables = {"al", "be", "ca", "do", "el", "fi", "ga", "ho"};
+        for (int i = 0; i < 500; i++) {
+            String name = syllables[i % 8] + syllables[i / 8 % 8] + syllables[i / 64 % 8];
+            add(new PersonBuilder().withName(name).build());
+        }
+
+        for (String query : List.of("albeca", "dofi", "hohoho", "xyz")) {
+            Set<String> expected = ordinals.toPersons(ordinals.complementOf(new CompressedBitmap())).stream()
+                    .map(person -> person.getName().fullName.toLowerCase())
+                    .filter(token -> StringUtil.editDistance(query, token) <= 2)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, Set.copyOf(tokensOf(nameTree.search(query, 2))));
+        }
+    }
+
+    private void add(Person person) {
+        ordinals.add(person);
+        nameTree.add(person);
+    }
+
+    private static List<String> tokensOf(List<NameBkTree.TokenMatch> matches) {
+        return matches.stream().map(NameBkTree.TokenMatch::getToken).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex(ordinals);
+
+    @Test
+    public void getCandidates_emptySubstring_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> nameIndex.getCandidates(""));
+    }
+
+    @Test
+    public void getCandidates_substringShorterThanTrigram_returnsPersonsContainingIt() {
+        add(ALICE); // Alice Pauline
+        add(BENSON); // Benson Meier
+        add(DANIEL); // Daniel Meier
+        assertEquals(Set.of(ALICE), candidates("li"));
+        assertEquals(Set.of(BENSON, DANIEL), candidates("ie"));
+        assertEquals(Set.of(ALICE, DANIEL), candidates("l"));
+        assertEquals(Set.of(BENSON, DANIEL), candidates("r"));
+        assertTrue(candidates("q").isEmpty());
+    }
+
+    @Test
+    public void getCandidates_sharedTrigrams_returnsPersonsWithThem() {
+        add(ALICE); // Alice Pauline
+        add(BENSON); // Benson Meier
+        add(DANIEL); // Daniel Meier
+        assertEquals(Set.of(BENSON, DANIEL), candidates("meier"));
+        assertEquals(Set.of(ALICE), candidates("pauline"));
+    }
+
+    @Test
+    public void getCandidates_trigramsOfDifferentPersons_returnsPersonsWithAllOfThem() {
+        add(new PersonBuilder().withName("Abc Ef").build());
+        add(new PersonBuilder().withName("Bcd Gh").build());
+        // each person has one of the trigrams of "abcd", but neither has both
+        assertTrue(candidates("abcd").isEmpty());
+    }
+
+    @Test
+    public void getCandidates_unknownTrigram_returnsEmptyBitmap() {
+        add(ALICE);
+        assertTrue(candidates("alicx").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_removesFromEveryTrigram() {
+        add(BENSON);
+        add(DANIEL);
+        nameIndex.remove(BENSON);
+        ordinals.remove(BENSON);
+        assertEquals(Set.of(DANIEL), candidates("meier"));
+        assertTrue(candidates("benson").isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        add(ALICE);
+        nameIndex.clear();
+        assertTrue(candidates("alice").isEmpty());
+    }
+
+    @Test
+    public void getCandidates_modifyResult_indexUnchanged() {
+        add(ALICE);
+        nameIndex.getCandidates("alice").clear();
+        assertEquals(Set.of(ALICE), candidates("alice"));
+    }
+
+    private void add(Person person) {
+        ordinals.add(person);
+        nameIndex.add(person);
+    }
+
+    private Set<Person> candidates(String substring) {
+        return ordinals.toPersons(nameIndex.getCandidates(substring));
+    }
+}
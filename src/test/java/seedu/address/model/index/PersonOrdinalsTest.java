@@ -0,0 +1,79 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonOrdinalsTest {
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+
+    @Test
+    public void add_persons_numberedInOrder() {
+        ordinals.add(ALICE);
+        ordinals.add(BENSON);
+        assertEquals(0, ordinals.getOrdinal(ALICE));
+        assertEquals(1, ordinals.getOrdinal(BENSON));
+    }
+
+    @Test
+    public void add_afterRemove_reusesFreedOrdinal() {
+        ordinals.add(ALICE);
+        ordinals.add(BENSON);
+        ordinals.add(CARL);
+        ordinals.remove(BENSON);
+        ordinals.add(DANIEL);
+        assertEquals(1, ordinals.getOrdinal(DANIEL));
+        assertEquals(Set.of(ALICE, CARL, DANIEL), ordinals.toPersons(CompressedBitmap.of(0, 1, 2)));
+    }
+
+    @Test
+    public void getOrdinal_unknownPerson_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ordinals.getOrdinal(ALICE));
+    }
+
+    @Test
+    public void getPerson_removedOrdinal_throwsIllegalArgumentException() {
+        ordinals.add(ALICE);
+        ordinals.add(BENSON);
+        assertEquals(BENSON, ordinals.getPerson(1));
+        ordinals.remove(BENSON);
+        assertThrows(IllegalArgumentException.class, () -> ordinals.getPerson(1));
+        assertThrows(IllegalArgumentException.class, () -> ordinals.getPerson(2));
+    }
+
+    @Test
+    public void toOrdinals_roundTripsWithToPersons() {
+        ordinals.add(ALICE);
+        ordinals.add(BENSON);
+        ordinals.add(CARL);
+        assertEquals(Set.of(ALICE, CARL), ordinals.toPersons(ordinals.toOrdinals(List.of(ALICE, CARL))));
+    }
+
+    @Test
+    public void complementOf_returnsOrdinalsOfOtherPersons() {
+        ordinals.add(ALICE);
+        ordinals.add(BENSON);
+        ordinals.add(CARL);
+        ordinals.remove(CARL);
+        assertEquals(CompressedBitmap.of(1), ordinals.complementOf(CompressedBitmap.of(0)));
+    }
+
+    @Test
+    public void clear_startsNumberingAgain() {
+        ordinals.add(ALICE);
+        ordinals.add(BENSON);
+        ordinals.clear();
+        ordinals.add(CARL);
+        assertEquals(0, ordinals.getOrdinal(CARL));
+        assertEquals(CompressedBitmap.of(0), ordinals.complementOf(new CompressedBitmap()));
+    }
+}
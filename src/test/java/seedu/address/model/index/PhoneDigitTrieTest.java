@@ -0,0 +1,123 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneDigitTrieTest {
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final PhoneDigitTrie prefixTrie = new PhoneDigitTrie(ordinals, false);
+    private final PhoneDigitTrie suffixTrie = new PhoneDigitTrie(ordinals, true);
+
+    @Test
+    public void getOrdinalsMatching_leadingDigits_returnsNumbersStartingWithThem() {
+        addAll(List.of(ALICE, BENSON, DANIEL, ELLE, FIONA, GEORGE));
+        assertEquals(Set.of(ELLE, FIONA, GEORGE), matching(prefixTrie, "948"));
+        assertEquals(Set.of(DANIEL), matching(prefixTrie, "87652533"));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL, ELLE, FIONA, GEORGE), matching(prefixTrie, ""));
+        assertTrue(matching(prefixTrie, "999").isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsMatching_reversedTrie_returnsNumbersEndingWithDigits() {
+        addAll(List.of(ALICE, BENSON, DANIEL, ELLE, FIONA, GEORGE));
+        assertEquals(Set.of(DANIEL), matching(suffixTrie, "2533"));
+        assertEquals(Set.of(BENSON, FIONA, GEORGE), matching(suffixTrie, "2"));
+        assertTrue(matching(suffixTrie, "948").isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsMatching_notDigits_returnsEmpty() {
+        addAll(List.of(ALICE));
+        assertTrue(matching(prefixTrie, "9a").isEmpty());
+        assertTrue(matching(suffixTrie, "-53").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_removesFromEveryNode() {
+        addAll(List.of(ELLE, FIONA));
+        prefixTrie.remove(ELLE);
+        suffixTrie.remove(ELLE);
+        ordinals.remove(ELLE);
+        assertEquals(Set.of(FIONA), matching(prefixTrie, "9482"));
+        assertTrue(matching(suffixTrie, "44").isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsMatching_manyNumbers_sameAsCheckingEveryNumber() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i * 7919))
+                    .withEmail("person" + i + "@example.com").withHandle("@person" + i).build());
+        }
+        addAll(persons);
+        for (Person person : persons.subList(0, 100)) {
+            prefixTrie.remove(person);
+            suffixTrie.remove(person);
+            ordinals.remove(person);
+        }
+
+        List<Person> remaining = persons.subList(100, 300);
+        for (String digits : List.of("9", "900", "9012", "90123", "901234", "8", "19", "3719", "53719", "00000000")) {
+            assertEquals(remaining.stream().filter(person -> person.getPhone().value.startsWith(digits))
+                    .collect(Collectors.toSet()), matching(prefixTrie, digits));
+            assertEquals(remaining.stream().filter(person -> person.getPhone().value.endsWith(digits))
+                    .collect(Collectors.toSet()), matching(suffixTrie, digits));
+        }
+    }
+
+    @Test
+    public void remove_everyPerson_noNumbersLeft() {
+        addAll(List.of(ALICE, BENSON));
+        for (Person person : List.of(ALICE, BENSON)) {
+            prefixTrie.remove(person);
+            ordinals.remove(person);
+        }
+        assertTrue(matching(prefixTrie, "9").isEmpty());
+        assertTrue(matching(prefixTrie, "94351253").isEmpty());
+        assertTrue(matching(prefixTrie, "").isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        addAll(List.of(ALICE, BENSON));
+        prefixTrie.clear();
+        assertTrue(matching(prefixTrie, "9").isEmpty());
+        assertTrue(matching(prefixTrie, "").isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsMatching_modifyResult_indexUnchanged() {
+        addAll(List.of(ALICE));
+        prefixTrie.getOrdinalsMatching("9").clear();
+        assertEquals(Set.of(ALICE), matching(prefixTrie, "9"));
+    }
+
+    private void addAll(List<Person> persons) {
+        for (Person person : persons) {
+            ordinals.add(person);
+            prefixTrie.add(person);
+            suffixTrie.add(person);
+        }
+    }
+
+    private Set<Person> matching(PhoneDigitTrie trie, String digits) {
+        return ordinals.toPersons(trie.getOrdinalsMatching(digits));
+    }
+}
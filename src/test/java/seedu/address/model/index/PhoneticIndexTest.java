@@ -0,0 +1,64 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneticIndexTest {
+
+    private static final Person MOHAMMED = new PersonBuilder().withName("Mohammed Ali").build();
+    private static final Person MUHAMMAD = new PersonBuilder().withName("Muhammad Eng").build();
+    private static final Person JOHN = new PersonBuilder().withName("John Ng").build();
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final PhoneticIndex phoneticIndex = new PhoneticIndex(ordinals);
+
+    @Test
+    public void getOrdinalsSoundingLike_soundAlikeWords_returnsPersonsWithThem() {
+        add(MOHAMMED);
+        add(MUHAMMAD);
+        add(JOHN);
+        assertEquals(Set.of(MOHAMMED, MUHAMMAD), personsSoundingLike("mohamad"));
+        assertEquals(Set.of(MUHAMMAD, JOHN), personsSoundingLike("NG"));
+        assertTrue(personsSoundingLike("tan").isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_removesFromEveryBucket() {
+        add(MOHAMMED);
+        add(MUHAMMAD);
+        phoneticIndex.remove(MUHAMMAD);
+        ordinals.remove(MUHAMMAD);
+        assertEquals(Set.of(MOHAMMED), personsSoundingLike("muhammad"));
+        assertTrue(personsSoundingLike("eng").isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        add(JOHN);
+        phoneticIndex.clear();
+        assertTrue(personsSoundingLike("john").isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsSoundingLike_modifyResult_indexUnchanged() {
+        add(JOHN);
+        phoneticIndex.getOrdinalsSoundingLike("john").clear();
+        assertEquals(Set.of(JOHN), personsSoundingLike("jon"));
+    }
+
+    private void add(Person person) {
+        ordinals.add(person);
+        phoneticIndex.add(person);
+    }
+
+    private Set<Person> personsSoundingLike(String word) {
+        return ordinals.toPersons(phoneticIndex.getOrdinalsSoundingLike(word));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final TagIndex tagIndex = new TagIndex(ordinals);
+
+    @Test
+    public void constructor_nullOrdinals_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TagIndex(null));
+    }
+
+    @Test
+    public void getOrdinalsWithAny_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tagIndex.getOrdinalsWithAny(null));
+    }
+
+    @Test
+    public void getOrdinalsWithAny_unknownTag_returnsEmptyBitmap() {
+        add(ALICE);
+        assertTrue(tagIndex.getOrdinalsWithAny(List.of(new Tag("unknown"))).isEmpty());
+    }
+
+    @Test
+    public void add_personsWithTags_indexesEveryTag() {
+        add(ALICE); // friends
+        add(BENSON); // owesMoney, friends
+        add(CARL); // no tags
+        assertEquals(Set.of(ALICE, BENSON), personsWithAny(FRIENDS));
+        assertEquals(Set.of(BENSON), personsWithAny(OWES_MONEY));
+        assertEquals(Set.of(ALICE, BENSON), personsWithAny(FRIENDS, OWES_MONEY));
+    }
+
+    @Test
+    public void remove_indexedPerson_removesFromEveryTag() {
+        add(ALICE);
+        add(BENSON);
+        tagIndex.remove(BENSON);
+        ordinals.remove(BENSON);
+        assertEquals(Set.of(ALICE), personsWithAny(FRIENDS));
+        assertTrue(personsWithAny(OWES_MONEY).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllPersons() {
+        add(ALICE);
+        tagIndex.clear();
+        assertTrue(personsWithAny(FRIENDS).isEmpty());
+    }
+
+    @Test
+    public void getOrdinalsWithAny_modifyResult_indexUnchanged() {
+        add(ALICE);
+        tagIndex.getOrdinalsWithAny(List.of(FRIENDS)).clear();
+        assertEquals(Set.of(ALICE), personsWithAny(FRIENDS));
+    }
+
+    private void add(Person person) {
+        ordinals.add(person);
+        tagIndex.add(person);
+    }
+
+    private Set<Person> personsWithAny(Tag... tags) {
+        return ordinals.toPersons(tagIndex.getOrdinalsWithAny(List.of(tags)));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.tag.Tag;
+
+public class AndPredicateTest {
+
+    private static final IndexedPersonPredicate FRIENDS = new TagContainsKeywordPredicate(Set.of(new Tag("friends")));
+    private static final IndexedPersonPredicate MEIER = new NameContainsKeywordsPredicate(List.of("meier"));
+    private static final IndexedPersonPredicate NOT_CLOSE = new ClosenessRangePredicate(1, 1);
+
+    @Test
+    public void test_allOperandsMatch_returnsTrue() {
+        assertTrue(new AndPredicate(List.of(FRIENDS, MEIER)).test(BENSON));
+    }
+
+    @Test
+    public void test_someOperandDoesNotMatch_returnsFalse() {
+        assertFalse(new AndPredicate(List.of(FRIENDS, MEIER)).test(ALICE));
+    }
+
+    @Test
+    public void findMatches_negatedOperand_subtractsItsMatches() {
+        AndPredicate predicate = new AndPredicate(List.of(FRIENDS, new NotPredicate(MEIER)));
+        assertEquals(Set.of(ALICE), predicate.findMatches(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void findMatches_onlyNegatedOperands_subtractsFromEveryPerson() {
+        AndPredicate predicate = new AndPredicate(List.of(new NotPredicate(FRIENDS), new NotPredicate(NOT_CLOSE)));
+        assertEquals(Set.of(CARL, FIONA, GEORGE), predicate.findMatches(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AndPredicate predicate = new AndPredicate(List.of(new OrPredicate(List.of(FRIENDS, NOT_CLOSE)),
+                new NotPredicate(new ClosenessRangePredicate(5, 5))));
+        assertEquals(addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.findMatches(addressBook));
+    }
+
+    @Test
+    public void equals() {
+        AndPredicate firstPredicate = new AndPredicate(List.of(FRIENDS, MEIER));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AndPredicate(List.of(FRIENDS, MEIER))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new OrPredicate(List.of(FRIENDS, MEIER))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different operands -> returns false
+        assertFalse(firstPredicate.equals(new AndPredicate(List.of(FRIENDS, NOT_CLOSE))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AndPredicate predicate = new AndPredicate(List.of(NOT_CLOSE));
+        String expected = AndPredicate.class.getCanonicalName() + "{operands=" + List.of(NOT_CLOSE) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
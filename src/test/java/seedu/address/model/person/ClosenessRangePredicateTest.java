@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ClosenessRangePredicateTest {
+
+    @Test
+    public void isValidClosenessRange() {
+        // invalid ranges
+        assertFalse(ClosenessRangePredicate.isValidClosenessRange("")); // empty string
+        assertFalse(ClosenessRangePredicate.isValidClosenessRange(">=")); // no level
+        assertFalse(ClosenessRangePredicate.isValidClosenessRange(">=6")); // level out of range
+        assertFalse(ClosenessRangePredicate.isValidClosenessRange("=>4")); // unknown operator
+        assertFalse(ClosenessRangePredicate.isValidClosenessRange(">= 4")); // space within range
+
+        // valid ranges
+        assertTrue(ClosenessRangePredicate.isValidClosenessRange("3"));
+        assertTrue(ClosenessRangePredicate.isValidClosenessRange("=3"));
+        assertTrue(ClosenessRangePredicate.isValidClosenessRange(">=4"));
+        assertTrue(ClosenessRangePredicate.isValidClosenessRange("<1"));
+    }
+
+    @Test
+    public void of_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ClosenessRangePredicate.of(">=6"));
+    }
+
+    @Test
+    public void of_validRanges_returnsPredicate() {
+        assertEquals(new ClosenessRangePredicate(3, 3), ClosenessRangePredicate.of("3"));
+        assertEquals(new ClosenessRangePredicate(3, 3), ClosenessRangePredicate.of("=3"));
+        assertEquals(new ClosenessRangePredicate(4, 5), ClosenessRangePredicate.of(">=4"));
+        assertEquals(new ClosenessRangePredicate(4, 5), ClosenessRangePredicate.of(">3"));
+        assertEquals(new ClosenessRangePredicate(1, 2), ClosenessRangePredicate.of("<=2"));
+        assertEquals(new ClosenessRangePredicate(1, 2), ClosenessRangePredicate.of("<3"));
+    }
+
+    @Test
+    public void test_closenessInRange_returnsTrue() {
+        ClosenessRangePredicate predicate = ClosenessRangePredicate.of(">=4");
+        assertTrue(predicate.test(new PersonBuilder().withCloseness("4").build()));
+        assertTrue(predicate.test(new PersonBuilder().withCloseness("5").build()));
+    }
+
+    @Test
+    public void test_closenessOutOfRange_returnsFalse() {
+        assertFalse(ClosenessRangePredicate.of(">=4").test(new PersonBuilder().withCloseness("3").build()));
+        assertFalse(ClosenessRangePredicate.of("<1").test(new PersonBuilder().withCloseness("1").build()));
+    }
+
+    @Test
+    public void findMatches_readsClosenessBuckets() {
+        assertEquals(Set.of(ALICE, DANIEL), ClosenessRangePredicate.of(">=4").findMatches(getTypicalAddressBook()));
+        assertTrue(ClosenessRangePredicate.of(">5").findMatches(getTypicalAddressBook()).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        ClosenessRangePredicate firstPredicate = new ClosenessRangePredicate(4, 5);
+        ClosenessRangePredicate secondPredicate = new ClosenessRangePredicate(1, 2);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new ClosenessRangePredicate(4, 5)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ClosenessRangePredicate predicate = new ClosenessRangePredicate(4, 5);
+        String expected = ClosenessRangePredicate.class.getCanonicalName() + "{minLevel=4, maxLevel=5}";
+        assertEquals(expected, predicate.toString());
+    }
+}
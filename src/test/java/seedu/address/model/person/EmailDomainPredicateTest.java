@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailDomainPredicateTest {
+
+    @Test
+    public void test_emailAtDomain_returnsTrue() {
+        assertTrue(new EmailDomainPredicate(List.of("Example.COM")).test(ALICE));
+        assertTrue(new EmailDomainPredicate(List.of("gmail.com", "example.com")).test(ALICE));
+    }
+
+    @Test
+    public void test_emailNotAtDomain_returnsFalse() {
+        // only the whole domain matches
+        assertFalse(new EmailDomainPredicate(List.of("com")).test(ALICE));
+        assertFalse(new EmailDomainPredicate(List.of("example.com")).test(
+                new PersonBuilder().withEmail("bob@mail.example.com").build()));
+    }
+
+    @Test
+    public void findMatches_readsDomainIndex() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withEmail("e1234567@u.nus.edu").build());
+        EmailDomainPredicate predicate = new EmailDomainPredicate(List.of("u.nus.edu"));
+        assertEquals(1, predicate.findMatches(addressBook).size());
+        assertEquals(addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.findMatches(addressBook));
+    }
+
+    @Test
+    public void equals() {
+        EmailDomainPredicate firstPredicate = new EmailDomainPredicate(List.of("example.com"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EmailDomainPredicate(List.of("example.com"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(List.of("example.com"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different domains -> returns false
+        assertFalse(firstPredicate.equals(new EmailDomainPredicate(List.of("gmail.com"))));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -66,6 +67,12 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
 
+    @Test
+    public void getDomain() {
+        assertEquals("example.com", new Email("alice@example.com").getDomain());
+        assertEquals("u.nus.edu", new Email("E1234567@U.NUS.edu").getDomain());
+    }
+
     @Test
     public void equals() {
         Email email = new Email("valid@email");
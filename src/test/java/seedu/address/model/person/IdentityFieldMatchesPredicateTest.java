@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class IdentityFieldMatchesPredicateTest {
+
+    @Test
+    public void test_completeValue_matchesExactValueOnly() {
+        IdentityFieldMatchesPredicate predicate =
+                new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("94351253"));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+
+        // a valid email that is a prefix of another
+        predicate = new IdentityFieldMatchesPredicate(IdentityField.EMAIL, List.of("alice@example.co"));
+        assertFalse(predicate.test(ALICE)); // alice@example.com
+    }
+
+    @Test
+    public void test_completeValueInMixedCase_matches() {
+        assertTrue(new IdentityFieldMatchesPredicate(IdentityField.EMAIL, List.of("Alice@Example.COM")).test(ALICE));
+        assertTrue(new IdentityFieldMatchesPredicate(IdentityField.HANDLE, List.of("@Alice_Pauline")).test(ALICE));
+        assertFalse(new IdentityFieldMatchesPredicate(IdentityField.EMAIL, List.of("Alice@Example.COM")).test(BENSON));
+    }
+
+    @Test
+    public void findMatches_completeValueInMixedCase_found() {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(Set.of(ALICE), new IdentityFieldMatchesPredicate(IdentityField.EMAIL,
+                List.of("Alice@Example.com")).findMatches(addressBook));
+        assertEquals(Set.of(ALICE), new IdentityFieldMatchesPredicate(IdentityField.HANDLE,
+                List.of("@ALICE_PAULINE")).findMatches(addressBook));
+        // a valid handle that is the start of another only matches itself
+        assertEquals(Set.of(), new IdentityFieldMatchesPredicate(IdentityField.HANDLE,
+                List.of("@Alice_P")).findMatches(addressBook));
+    }
+
+    @Test
+    public void test_incompleteValue_matchesPrefixIgnoringCase() {
+        IdentityFieldMatchesPredicate predicate =
+                new IdentityFieldMatchesPredicate(IdentityField.HANDLE, List.of("@ALI"));
+        assertTrue(predicate.test(ALICE)); // @alice_pauline
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void findMatches_sameAsTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<IdentityFieldMatchesPredicate> predicates = List.of(
+                new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("94824")),
+                new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("98765432", "8482")),
+                new IdentityFieldMatchesPredicate(IdentityField.EMAIL, List.of("JOHND@")),
+                new IdentityFieldMatchesPredicate(IdentityField.EMAIL, List.of("johnd@example.co")),
+                new IdentityFieldMatchesPredicate(IdentityField.EMAIL, List.of("JohnD@Example.com")),
+                new IdentityFieldMatchesPredicate(IdentityField.HANDLE, List.of("@george_best", "@d")),
+                new IdentityFieldMatchesPredicate(IdentityField.HANDLE, List.of("@Alice_Pauline", "@ali")));
+        for (IdentityFieldMatchesPredicate predicate : predicates) {
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, predicate.findMatches(addressBook));
+        }
+        assertEquals(Set.of(FIONA, GEORGE), predicates.get(0).findMatches(addressBook));
+    }
+
+    @Test
+    public void equals() {
+        IdentityFieldMatchesPredicate firstPredicate =
+                new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("9123"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("9123"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different field -> returns false
+        assertFalse(firstPredicate.equals(new IdentityFieldMatchesPredicate(IdentityField.EMAIL, List.of("9123"))));
+
+        // different values -> returns false
+        assertFalse(firstPredicate.equals(new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("9124"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IdentityFieldMatchesPredicate predicate = new IdentityFieldMatchesPredicate(IdentityField.PHONE,
+                List.of("9123"));
+        String expected = IdentityFieldMatchesPredicate.class.getCanonicalName() + "{field=PHONE, values=[9123]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
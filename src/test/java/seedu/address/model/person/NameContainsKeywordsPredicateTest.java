@@ -3,13 +3,19 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +80,39 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void findMatches_substringKeywords_matchesTest() {
+        AddressBook addressBook = getTypicalAddressBook();
+        // indexed keyword, keyword shorter than a trigram, keyword spanning two words, no match
+        for (String keyword : List.of("meier", "ku", "a pau", "zzz")) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, predicate.findMatches(addressBook));
+        }
+        assertEquals(Set.of(ALICE, BENSON), new NameContainsKeywordsPredicate(List.of("PAULINE", "Benson"))
+                .findMatches(addressBook));
+    }
+
+    @Test
+    public void findMatches_namesWithSpecialCaseCharacters_matchesTest() {
+        AddressBook addressBook = new AddressBook();
+        // a capital I with a dot above, and a Greek name ending with a final sigma
+        Person irem = new PersonBuilder().withName("\u0130rem Y\u0131lmaz").build();
+        Person nikolaos = new PersonBuilder(BENSON).withName("\u039d\u03b9\u03ba\u03cc\u03bb\u03b1\u03bf\u03c2")
+                .build();
+        addressBook.addPerson(irem);
+        addressBook.addPerson(nikolaos);
+        for (String keyword : List.of("irem", "\u0130R", "i", "\u03bb\u03b1\u03bf\u03c3", "\u039f\u03a3",
+                "\u03c2")) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+            Set<Person> expected = addressBook.getPersonList().stream().filter(predicate)
+                    .collect(Collectors.toSet());
+            assertFalse(expected.isEmpty(), keyword);
+            assertEquals(expected, predicate.findMatches(addressBook), keyword);
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
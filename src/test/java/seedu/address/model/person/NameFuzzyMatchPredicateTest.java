@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameFuzzyMatchPredicateTest {
+
+    @Test
+    public void maxDistanceFor_growsWithKeywordLength() {
+        assertEquals(0, NameFuzzyMatchPredicate.maxDistanceFor("al"));
+        assertEquals(1, NameFuzzyMatchPredicate.maxDistanceFor("ali"));
+        assertEquals(1, NameFuzzyMatchPredicate.maxDistanceFor("alice"));
+        assertEquals(2, NameFuzzyMatchPredicate.maxDistanceFor("pauline"));
+    }
+
+    @Test
+    public void test_nameWordWithinDistance_returnsTrue() {
+        // one substitution, ignoring case
+        assertTrue(new NameFuzzyMatchPredicate(List.of("ALICR")).test(ALICE));
+
+        // two edits on a long keyword
+        assertTrue(new NameFuzzyMatchPredicate(List.of("pouliine")).test(ALICE));
+
+        // only one keyword needs to match
+        assertTrue(new NameFuzzyMatchPredicate(List.of("zzzzz", "alise")).test(ALICE));
+    }
+
+    @Test
+    public void test_nameWordBeyondDistance_returnsFalse() {
+        assertFalse(new NameFuzzyMatchPredicate(List.of("alxxe")).test(ALICE));
+
+        // short keywords must match a whole word exactly
+        assertFalse(new NameFuzzyMatchPredicate(List.of("al")).test(ALICE));
+    }
+
+    @Test
+    public void getDistance_returnsNearestMatchingWord() {
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(List.of("meyer"));
+        assertEquals(0, predicate.getDistance(ELLE));
+        assertEquals(1, predicate.getDistance(BENSON));
+        assertEquals(Integer.MAX_VALUE, predicate.getDistance(ALICE));
+    }
+
+    @Test
+    public void findMatches_sameAsTestingEveryPerson() {
+        AddressBook addressBook = getTypicalAddressBook();
+        NameFuzzyMatchPredicate predicate = new NameFuzzyMatchPredicate(List.of("meyer", "kurt"));
+        assertEquals(Set.of(BENSON, DANIEL, ELLE, CARL), predicate.findMatches(addressBook));
+        assertEquals(addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.findMatches(addressBook));
+    }
+
+    @Test
+    public void findMatches_afterSetPerson_reflectsEditedName() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person editedFiona = new PersonBuilder(FIONA).withName("Fiona Kurtz").build();
+        addressBook.setPerson(FIONA, editedFiona);
+        assertEquals(Set.of(CARL, editedFiona), new NameFuzzyMatchPredicate(List.of("kurz")).findMatches(addressBook));
+    }
+
+    @Test
+    public void equals() {
+        NameFuzzyMatchPredicate firstPredicate = new NameFuzzyMatchPredicate(List.of("alice"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameFuzzyMatchPredicate(List.of("alice"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(List.of("alice"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameFuzzyMatchPredicate(List.of("bob"))));
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSoundsLikePredicateTest {
+
+    @Test
+    public void test_nameWordSoundsLikeKeyword_returnsTrue() {
+        assertTrue(new NameSoundsLikePredicate(List.of("Muhammad"))
+                .test(new PersonBuilder().withName("Mohammed Ali").build()));
+        assertTrue(new NameSoundsLikePredicate(List.of("zzz", "eng")).test(new PersonBuilder().withName("Ng").build()));
+    }
+
+    @Test
+    public void test_noNameWordSoundsLikeKeyword_returnsFalse() {
+        assertFalse(new NameSoundsLikePredicate(List.of("Bob")).test(ALICE));
+    }
+
+    @Test
+    public void findMatches_readsPhoneticBuckets() {
+        AddressBook addressBook = getTypicalAddressBook();
+        // Meier and Meyer sound alike
+        NameSoundsLikePredicate predicate = new NameSoundsLikePredicate(List.of("mayer"));
+        assertEquals(Set.of(BENSON, DANIEL, ELLE), predicate.findMatches(addressBook));
+        assertEquals(addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.findMatches(addressBook));
+    }
+
+    @Test
+    public void equals() {
+        NameSoundsLikePredicate firstPredicate = new NameSoundsLikePredicate(List.of("alice"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSoundsLikePredicate(List.of("alice"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(List.of("alice"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameSoundsLikePredicate(List.of("alyce"))));
+    }
+}
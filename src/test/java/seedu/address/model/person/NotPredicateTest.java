@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.tag.Tag;
+
+public class NotPredicateTest {
+
+    private static final IndexedPersonPredicate FRIENDS = new TagContainsKeywordPredicate(Set.of(new Tag("friends")));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NotPredicate(null));
+    }
+
+    @Test
+    public void test_negatesOperand() {
+        NotPredicate predicate = new NotPredicate(FRIENDS);
+        assertFalse(predicate.test(ALICE));
+        assertTrue(predicate.test(CARL));
+    }
+
+    @Test
+    public void findMatches_returnsPersonsNotMatched() {
+        NotPredicate predicate = new NotPredicate(FRIENDS);
+        assertEquals(Set.of(CARL, ELLE, FIONA, GEORGE), predicate.findMatches(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void equals() {
+        NotPredicate firstPredicate = new NotPredicate(FRIENDS);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NotPredicate(FRIENDS)));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different operand -> returns false
+        assertFalse(firstPredicate.equals(new NotPredicate(new ClosenessRangePredicate(1, 1))));
+    }
+}
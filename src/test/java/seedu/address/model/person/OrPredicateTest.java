@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.IndexedPersonPredicate;
+import seedu.address.model.tag.Tag;
+
+public class OrPredicateTest {
+
+    private static final IndexedPersonPredicate FRIENDS = new TagContainsKeywordPredicate(Set.of(new Tag("friends")));
+    private static final IndexedPersonPredicate NOT_CLOSE = new ClosenessRangePredicate(1, 1);
+
+    @Test
+    public void test_anyOperandMatches_returnsTrue() {
+        OrPredicate predicate = new OrPredicate(List.of(FRIENDS, NOT_CLOSE));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(ELLE));
+    }
+
+    @Test
+    public void test_noOperandMatches_returnsFalse() {
+        assertFalse(new OrPredicate(List.of(FRIENDS, NOT_CLOSE)).test(CARL));
+    }
+
+    @Test
+    public void findMatches_returnsUnionOfMatches() {
+        OrPredicate predicate = new OrPredicate(List.of(FRIENDS, NOT_CLOSE));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL, ELLE), predicate.findMatches(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void equals() {
+        OrPredicate firstPredicate = new OrPredicate(List.of(FRIENDS, NOT_CLOSE));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new OrPredicate(List.of(FRIENDS, NOT_CLOSE))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different operands -> returns false
+        assertFalse(firstPredicate.equals(new OrPredicate(List.of(NOT_CLOSE, FRIENDS))));
+    }
+}
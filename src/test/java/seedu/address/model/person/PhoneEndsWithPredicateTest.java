@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class PhoneEndsWithPredicateTest {
+
+    @Test
+    public void test_phoneEndsWithDigits_returnsTrue() {
+        assertTrue(new PhoneEndsWithPredicate(List.of("1253")).test(ALICE));
+        assertTrue(new PhoneEndsWithPredicate(List.of("000", "94351253")).test(ALICE));
+    }
+
+    @Test
+    public void test_phoneDoesNotEndWithDigits_returnsFalse() {
+        assertFalse(new PhoneEndsWithPredicate(List.of("9435")).test(ALICE));
+    }
+
+    @Test
+    public void findMatches_readsSuffixTrie() {
+        AddressBook addressBook = getTypicalAddressBook();
+        PhoneEndsWithPredicate predicate = new PhoneEndsWithPredicate(List.of("2", "2533"));
+        assertEquals(Set.of(BENSON, DANIEL, FIONA, GEORGE), predicate.findMatches(addressBook));
+        assertEquals(addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toSet()),
+                predicate.findMatches(addressBook));
+    }
+
+    @Test
+    public void equals() {
+        PhoneEndsWithPredicate firstPredicate = new PhoneEndsWithPredicate(List.of("1234"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneEndsWithPredicate(List.of("1234"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(new IdentityFieldMatchesPredicate(IdentityField.PHONE, List.of("1234"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different digits -> returns false
+        assertFalse(firstPredicate.equals(new PhoneEndsWithPredicate(List.of("4321"))));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RankedPersonsPredicateTest {
+
+    @Test
+    public void test_rankedPersonsOnly() {
+        RankedPersonsPredicate predicate = new RankedPersonsPredicate(List.of(CARL, ALICE));
+        assertTrue(predicate.test(CARL));
+        assertFalse(predicate.test(BENSON));
+        assertEquals(Set.of(CARL, ALICE), predicate.findMatches(getTypicalAddressBook()));
+    }
+
+    @Test
+    public void getRanking_ordersByRankThenUnranked() {
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BENSON, CARL));
+        persons.sort(new RankedPersonsPredicate(List.of(CARL, ALICE)).getRanking());
+        assertEquals(List.of(CARL, ALICE, BENSON), persons);
+    }
+
+    @Test
+    public void equals() {
+        RankedPersonsPredicate predicate = new RankedPersonsPredicate(List.of(CARL, ALICE));
+        assertTrue(predicate.equals(new RankedPersonsPredicate(List.of(CARL, ALICE))));
+        assertFalse(predicate.equals(new RankedPersonsPredicate(List.of(ALICE, CARL))));
+        assertFalse(predicate.equals(null));
+    }
+}
@@ -7,7 +7,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,6 +51,36 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personSharingOnlyHandle_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person sameHandle = new PersonBuilder(BOB).withHandle(ALICE.getHandle().teleHandle).build();
+        assertTrue(uniquePersonList.contains(sameHandle));
+    }
+
+    @Test
+    public void contains_personRemoved_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void hasPersonExcluding_onlyClashWithExcluded_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertFalse(uniquePersonList.hasPersonExcluding(ALICE, editedAlice));
+    }
+
+    @Test
+    public void hasPersonExcluding_clashWithOtherPerson_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertTrue(uniquePersonList.hasPersonExcluding(ALICE, aliceWithBobEmail));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +143,26 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_equalTargetAfterRemoval_replacedInPlace() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL, BOB));
+        uniquePersonList.remove(BENSON);
+        // an equal copy of the person in the list, rather than the very instance
+        uniquePersonList.setPerson(new PersonBuilder(CARL).build(), DANIEL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BOB, ELLE);
+        assertEquals(List.of(DANIEL, ELLE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -119,6 +173,13 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -162,6 +223,21 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSharedPhone_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(ALICE, bobWithAlicePhone)));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityIndexes() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class AddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<List<Person>> written = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch firstWriteReleased = new CountDownLatch(1);
+    private AddressBookWriter writer;
+
+    @AfterEach
+    public void tearDown() {
+        firstWriteReleased.countDown();
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    @Test
+    public void submit_burstDuringWrite_coalescedIntoOneWrite() throws Exception {
+        writer = new AddressBookWriter(new RecordingStorage());
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        writer.submit(addressBook);
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+
+        // these arrive while the first write is blocked, so only the last of them is written
+        addressBook.addPerson(BENSON);
+        writer.submit(addressBook);
+        addressBook.addPerson(CARL);
+        writer.submit(addressBook);
+        firstWriteReleased.countDown();
+        writer.flush();
+
+        assertEquals(List.of(List.of(ALICE), List.of(ALICE, BENSON, CARL)), written);
+    }
+
+    @Test
+    public void submit_addressBookChangedAfterwards_writesSnapshot() throws Exception {
+        writer = new AddressBookWriter(new RecordingStorage());
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        writer.submit(addressBook);
+        addressBook.addPerson(BENSON);
+        firstWriteReleased.countDown();
+        writer.flush();
+
+        assertEquals(List.of(List.of(ALICE)), written);
+    }
+
+    @Test
+    public void close_pendingSnapshot_writtenBeforeClosing() throws Exception {
+        writer = new AddressBookWriter(new RecordingStorage());
+        AddressBook addressBook = new AddressBook();
+        writer.submit(addressBook);
+        assertTrue(firstWriteStarted.await(5, TimeUnit.SECONDS));
+        addressBook.addPerson(ALICE);
+        writer.submit(addressBook);
+        firstWriteReleased.countDown();
+        writer.close();
+
+        assertEquals(List.of(List.of(), List.of(ALICE)), written);
+        assertThrows(IllegalStateException.class, () -> writer.submit(addressBook));
+    }
+
+    @Test
+    public void submit_storageThrows_errorReportedAndNextWriteClearsFailure() throws Exception {
+        IOException error = new IOException("disk full");
+        List<IOException> reported = new CopyOnWriteArrayList<>();
+        boolean[] shouldFail = {true};
+        writer = new AddressBookWriter(new JsonAddressBookStorage(testFolder.resolve("unused.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (shouldFail[0]) {
+                    throw error;
+                }
+            }
+        });
+        writer.setErrorHandler(reported::add);
+
+        writer.submit(new AddressBook());
+        writer.flush();
+        assertEquals(List.of(error), reported);
+        assertTrue(writer.hasLastWriteFailed());
+
+        shouldFail[0] = false;
+        writer.submit(new AddressBook());
+        writer.flush();
+        assertFalse(writer.hasLastWriteFailed());
+    }
+
+    @Test
+    public void submit_realStorage_writesFile() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        writer = new AddressBookWriter(storage);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        writer.submit(addressBook);
+        writer.close();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    /**
+     * Records the persons of every address book saved. The first save waits until the test releases it.
+     */
+    private class RecordingStorage extends JsonAddressBookStorage {
+        RecordingStorage() {
+            super(testFolder.resolve("unused.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (firstWriteStarted.getCount() > 0) {
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            written.add(List.copyOf(addressBook.getPersonList()));
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    // offset of the phone number within a record
+    private static final int PHONE_OFFSET = 20;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        // the persons keep their order, as in the json file
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingSameFile_fileReplaced() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        // the file read must not be held open or mapped, or it cannot be replaced on some platforms
+        storage.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+        Files.delete(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_profilePictureAndSharedStrings_storedOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone("91234567").withEmail("amy@example.com")
+                .withHandle("@amybee").withTags("friends", "colleagues").build();
+        Person withPicture = new Person(amy.getName(), amy.getPhone(), amy.getEmail(), amy.getAddress(),
+                amy.getTags(), amy.getHandle(), "images/amy.png", amy.getCloseness());
+        Person sameTagsAndAddress = new PersonBuilder().withName("Bob Choo").withPhone("82345678")
+                .withEmail("bob@example.com").withHandle("@bobchoo").withTags("friends", "colleagues").build();
+        AddressBook original = new AddressBook();
+        original.setPersons(List.of(withPicture, sameTagsAndAddress));
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertEquals(original.getPersonList(), storage.readAddressBook().get().getPersonList());
+        assertEquals(1, countOccurrences(Files.readAllBytes(filePath), "friends"));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertCorrupted(String.format(BinaryAddressBookStorage.MESSAGE_NOT_BINARY_FILE, filePath), filePath);
+    }
+
+    @Test
+    public void readAddressBook_flippedByte_throwsDataLoadingException() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertCorrupted(String.format(BinaryAddressBookStorage.MESSAGE_CHECKSUM_MISMATCH, filePath), filePath);
+    }
+
+    @Test
+    public void readAddressBook_truncated_throwsDataLoadingException() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newerVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        bytes.putInt(4, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        writeWithChecksum(filePath, bytes.array());
+        assertCorrupted(String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION, filePath,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1, BinaryAddressBookStorage.FORMAT_VERSION), filePath);
+    }
+
+    @Test
+    public void readAddressBook_invalidPhone_recordNamed() throws Exception {
+        Path filePath = saveTypicalAddressBook();
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        // the phone of the second record
+        bytes.putInt(BinaryAddressBookStorage.HEADER_SIZE + BinaryAddressBookStorage.RECORD_SIZE + PHONE_OFFSET,
+                1234);
+        writeWithChecksum(filePath, bytes.array());
+
+        DataLoadingException e = assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertEquals(String.format(JsonSerializableAddressBook.MESSAGE_INVALID_RECORD, 2, Phone.MESSAGE_CONSTRAINTS),
+                e.getCause().getMessage());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_recordsNamed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        FileUtil.writeToFileAtomically(filePath, out -> BinaryAddressBookStorage.write(List.of(ALICE, ALICE), out),
+                false);
+
+        DataLoadingException e = assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECORD, 2, 1),
+                e.getCause().getMessage());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJsonFile() throws Exception {
+        Path binaryFilePath = saveTypicalAddressBook();
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    private Path saveTypicalAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        return filePath;
+    }
+
+    /**
+     * Writes {@code bytes} to {@code filePath} with their last four bytes replaced by the checksum of the rest, so that
+     * the change made to them is not caught by the checksum.
+     */
+    private void writeWithChecksum(Path filePath, byte[] bytes) throws Exception {
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - 4);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - 4, (int) checksum.getValue());
+        Files.write(filePath, bytes);
+    }
+
+    private void assertCorrupted(String expectedMessage, Path filePath) {
+        DataLoadingException e = assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertEquals(expectedMessage, e.getCause().getMessage());
+    }
+
+    private int countOccurrences(byte[] bytes, String string) {
+        String contents = new String(bytes, StandardCharsets.ISO_8859_1);
+        int count = 0;
+        for (int i = contents.indexOf(string); i >= 0; i = contents.indexOf(string, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
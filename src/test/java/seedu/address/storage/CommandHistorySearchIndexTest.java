@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandHistorySearchIndexTest {
+
+    private final CommandHistorySearchIndex index = new CommandHistorySearchIndex();
+    private final List<String> commands = new ArrayList<>();
+
+    @Test
+    public void findNewest_substringOfAnyLength_newestMatchInRange() {
+        add("list");
+        add("find Alice");
+        add("FIND alex");
+        add("clear");
+
+        assertEquals(2, findNewest("find al", 0, 3));
+        assertEquals(1, findNewest("find al", 0, 1));
+        assertEquals(-1, findNewest("find al", 3, 3));
+        assertEquals(2, findNewest("ind", 0, 3));
+        assertEquals(3, findNewest("e", 0, 3));
+        assertEquals(0, findNewest("li", 0, 0));
+        assertEquals(-1, findNewest("z", 0, 3));
+        assertEquals(-1, findNewest("alexa", 0, 3));
+        assertEquals(-1, findNewest("zzz", 0, 3));
+    }
+
+    @Test
+    public void removeOldest_manyCommands_onlyRemainingFound() {
+        for (int i = 0; i < 1000; i++) {
+            add("delete " + (i % 10));
+            if (i >= 5) {
+                index.removeOldest(i - 5, commands.get(i - 5));
+            }
+        }
+
+        assertEquals(999, findNewest("delete", 995, 999));
+        assertEquals(997, findNewest("delete 7", 995, 999));
+        assertEquals(-1, findNewest("delete 4", 995, 999));
+        assertEquals(-1, findNewest("delete 7", 995, 996));
+    }
+
+    private void add(String command) {
+        index.add(commands.size(), command);
+        commands.add(command);
+    }
+
+    private int findNewest(String substring, int oldest, int newest) {
+        return index.findNewest(substring, oldest, newest, commands::get);
+    }
+}
@@ -79,6 +79,142 @@ class CommandHistoryTest {
         assertEquals(Optional.of("typing..."), h.down());
     }
 
+    @Test
+    void push_appendsOneLinePerCommand() throws Exception {
+        Path store = tmp.resolve("hist.txt");
+        Files.write(store, List.of("a", "b"));
+        CommandHistory h = new CommandHistory(10, new FileCommandHistoryStorage(store));
+
+        h.push("c");
+        h.push("c");
+        h.push("d");
+        assertEquals(List.of("a", "b", "c", "d"), Files.readAllLines(store));
+    }
+
+    @Test
+    void push_evictedCommandsReachMaxSize_compactsFile() throws Exception {
+        Path store = tmp.resolve("hist.txt");
+        CommandHistory h = new CommandHistory(3, new FileCommandHistoryStorage(store));
+
+        for (int i = 1; i <= 5; i++) {
+            h.push("cmd " + i);
+        }
+        // two commands evicted so far, fewer than the three the history holds
+        assertEquals(5, Files.readAllLines(store).size());
+
+        h.push("cmd 6");
+        assertEquals(List.of("cmd 4", "cmd 5", "cmd 6"), Files.readAllLines(store));
+    }
+
+    @Test
+    void save_dropsEvictedCommands() throws Exception {
+        Path store = tmp.resolve("hist.txt");
+        CommandHistory h = new CommandHistory(2, new FileCommandHistoryStorage(store));
+        h.push("a");
+        h.push("b");
+        h.push("c");
+
+        h.save();
+        assertEquals(List.of("b", "c"), Files.readAllLines(store));
+    }
+
+    @Test
+    void constructor_longerFile_keepsNewestCommands() throws Exception {
+        Path store = tmp.resolve("hist.txt");
+        Files.write(store, List.of("a", "", "b", "c", "d"));
+        CommandHistory h = new CommandHistory(3, new FileCommandHistoryStorage(store));
+
+        assertEquals(Optional.of("d"), h.up());
+        assertEquals(Optional.of("c"), h.up());
+        assertEquals(Optional.of("b"), h.up());
+        assertEquals(Optional.of("b"), h.up());
+    }
+
+    @Test
+    void upDown_afterWrappingAround_newestFirst() {
+        CommandHistory h = new CommandHistory(40, new NoopCommandHistoryStorage());
+        for (int i = 0; i < 100; i++) {
+            h.push("cmd " + i);
+        }
+
+        h.beginNavigation("typed");
+        for (int i = 99; i >= 60; i--) {
+            assertEquals(Optional.of("cmd " + i), h.up());
+        }
+        assertEquals(Optional.of("cmd 60"), h.up());
+        for (int i = 61; i <= 99; i++) {
+            assertEquals(Optional.of("cmd " + i), h.down());
+        }
+        assertEquals(Optional.of("typed"), h.down());
+    }
+
+    @Test
+    void search_newestMatchIgnoringCase_keptWhileQueryStillMatches() {
+        CommandHistory h = new CommandHistory(10, new NoopCommandHistoryStorage());
+        h.push("add n/Alice p/81234567");
+        h.push("find alex");
+        h.push("add n/Bob p/91234567");
+
+        assertEquals(Optional.of("add n/Bob p/91234567"), h.search("a"));
+        assertEquals(Optional.of("add n/Bob p/91234567"), h.search("ADD"));
+        assertEquals(Optional.of("add n/Alice p/81234567"), h.search("add n/al"));
+        assertEquals(Optional.empty(), h.search("add n/alice x"));
+        // the search stays at the last match, which is newer than "find alex"
+        assertEquals(Optional.of("add n/Alice p/81234567"), h.search("al"));
+    }
+
+    @Test
+    void searchOlder_stepsThroughOlderMatches() {
+        CommandHistory h = new CommandHistory(10, new NoopCommandHistoryStorage());
+        h.push("list");
+        h.push("delete 1");
+        h.push("clear");
+        h.push("delete 2");
+
+        assertEquals(Optional.of("delete 2"), h.search("del"));
+        assertEquals(Optional.of("delete 1"), h.searchOlder("del"));
+        assertEquals(Optional.empty(), h.searchOlder("del"));
+
+        h.resetSearch();
+        assertEquals(Optional.of("delete 2"), h.search("del"));
+        h.push("delete 3");
+        assertEquals(Optional.of("delete 3"), h.search("del"));
+    }
+
+    @Test
+    void search_evictedCommands_notFound() {
+        CommandHistory h = new CommandHistory(20, new NoopCommandHistoryStorage());
+        for (int i = 0; i < 100; i++) {
+            h.push("edit " + i + " t/tag" + (i % 7));
+        }
+
+        assertEquals(Optional.of("edit 99 t/tag1"), h.search("t/tag1"));
+        assertEquals(Optional.of("edit 92 t/tag1"), h.searchOlder("t/tag1"));
+        assertEquals(Optional.of("edit 85 t/tag1"), h.searchOlder("t/tag1"));
+        assertEquals(Optional.empty(), h.searchOlder("t/tag1"));
+        h.resetSearch();
+        assertEquals(Optional.empty(), h.search("edit 79 "));
+        assertEquals(Optional.of("edit 80 t/tag3"), h.search("edit 80 "));
+        assertEquals(Optional.of("edit 80 t/tag3"), h.search("0 t"));
+    }
+
+    @Test
+    void suggest_frequentAndRecentFirst_evictedCommandsDropped() {
+        CommandHistory h = new CommandHistory(5, new NoopCommandHistoryStorage());
+        h.push("find alice");
+        h.push("list");
+        h.push("find bob");
+        h.push("list");
+        h.push("FIND Bob");
+
+        // "find bob" and "FIND Bob" are one suggestion, used as often as "list" but more recently
+        assertEquals(List.of("FIND Bob", "list", "find alice"), h.suggest(""));
+        assertEquals(List.of("FIND Bob"), h.suggest("find b"));
+
+        h.push("clear"); // evicts "find alice"
+        assertEquals(List.of("FIND Bob"), h.suggest("fi"));
+    }
+
     /**
      * Minimal no-op storage stub so tests don't touch the filesystem.
      * Saves are ignored; reads return empty.
@@ -104,5 +240,10 @@ class CommandHistoryTest {
         public void saveCommandHistory(List<String> oldestFirst) throws IOException {
             // no-op
         }
+
+        @Override
+        public void appendCommand(String command) throws IOException {
+            // no-op
+        }
     }
 }
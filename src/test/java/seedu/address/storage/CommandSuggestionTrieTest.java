@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandSuggestionTrieTest {
+
+    private final CommandSuggestionTrie trie = new CommandSuggestionTrie(3);
+    private final List<String> uses = new ArrayList<>();
+    private int removed = 0;
+
+    @Test
+    public void get_prefixEndingAnywhere_commandsStartingWithIt() {
+        use("find alex");
+        use("find alice");
+        use("FIND al");
+        use("list");
+
+        assertEquals(List.of("FIND al", "find alice", "find alex"), trie.get("find al"));
+        assertEquals(List.of("FIND al", "find alice", "find alex"), trie.get("Fi"));
+        assertEquals(List.of("find alice"), trie.get("find ali"));
+        assertEquals(List.of("find alice"), trie.get("find alice"));
+        assertEquals(List.of(), trie.get("find alicea"));
+        assertEquals(List.of(), trie.get("finx"));
+        assertEquals(List.of("list", "FIND al", "find alice"), trie.get(""));
+    }
+
+    @Test
+    public void get_frequentCommands_rankedAboveRecentOnes() {
+        use("delete 1");
+        for (int i = 0; i < 3; i++) {
+            use("edit 1 t/friend");
+        }
+        use("delete 2");
+        use("edit 2 t/colleague");
+
+        assertEquals(List.of("edit 1 t/friend", "edit 2 t/colleague"), trie.get("edit"));
+        assertEquals(List.of("delete 2", "delete 1"), trie.get("del"));
+
+        // uses long ago count for little
+        for (int i = 0; i < 3 * CommandSuggestionTrie.HALF_LIFE; i++) {
+            use("list");
+        }
+        use("edit 2 t/colleague");
+        assertEquals(List.of("edit 2 t/colleague", "edit 1 t/friend"), trie.get("e"));
+    }
+
+    @Test
+    public void removeOldest_lastUse_commandNoLongerSuggested() {
+        use("edit 1 t/a");
+        use("edit 1 t/b");
+        use("edit 1 t/c");
+        use("edit 2");
+        use("edit 1 t/a");
+
+        removeOldest();
+        assertEquals(List.of("edit 1 t/a", "edit 2", "edit 1 t/c"), trie.get("edit"));
+        removeOldest();
+        removeOldest();
+        assertEquals(List.of("edit 1 t/a", "edit 2"), trie.get("edit"));
+        assertEquals(List.of("edit 1 t/a"), trie.get("edit 1"));
+        removeOldest();
+        removeOldest();
+        assertEquals(List.of(), trie.get(""));
+
+        use("edit 3");
+        assertEquals(List.of("edit 3"), trie.get("e"));
+    }
+
+    @Test
+    public void add_manyUses_weightsRescaledWithoutOverflow() {
+        for (int i = 0; i < 200_000; i++) {
+            use(i % 3 == 0 ? "list" : "find person" + i % 5);
+        }
+        assertEquals(List.of("list", "find person4", "find person1"), trie.get(""));
+    }
+
+    private void use(String command) {
+        trie.add(uses.size(), command);
+        uses.add(command);
+    }
+
+    private void removeOldest() {
+        trie.removeOldest(removed, uses.get(removed));
+        removed++;
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalOnly() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalFilePath));
+        String checkpoint = Files.readString(filePath);
+
+        // add, edit, delete
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("1 Edited Road").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(checkpoint, Files.readString(filePath));
+        List<String> entries = Files.readAllLines(journalFilePath);
+        assertEquals(3, entries.size());
+        // an entry holds the changed person only, not the whole address book
+        assertTrue(entries.get(0).contains(HOON.getEmail().value));
+        assertFalse(entries.get(0).contains(BENSON.getEmail().value));
+        assertTrue(entries.get(2).contains("\"persons\":[]"));
+
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_clear_replayedAsEmpty() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(new AddressBook());
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(new AddressBook(), readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_entryLimitReached_checkpoints() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(filePath, FsyncPolicy.NEVER, true, false, 2, Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalFilePath));
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_byteLimitReached_checkpoints() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(filePath, FsyncPolicy.NEVER, true, false, Integer.MAX_VALUE, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        new JournaledAddressBookStorage(filePath).saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        JournaledAddressBookStorage first = new JournaledAddressBookStorage(filePath);
+        first.readAddressBook();
+        first.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage second = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(second.readAddressBook().get());
+        readBack.addPerson(IDA);
+        second.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(readBack, readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_journalLeftByInterruptedCheckpoint_entriesNotReplayedTwice() throws Exception {
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(filePath, FsyncPolicy.NEVER, true, false, 2, Long.MAX_VALUE);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Path oldJournal = testFolder.resolve("old.journal");
+        Files.copy(journalFilePath, oldJournal);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // as if the checkpoint had failed after writing the json file but before deleting the journal
+        Files.copy(oldJournal, journalFilePath, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignoredAndDroppedOnNextSave() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalFilePath, "{\"sequence\":2,\"from\":1,\"to\":1,\"pers".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+
+        readBack.addPerson(BENSON);
+        reopened.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(readBack, readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_entryOutOfRange_throwsDataLoadingException() throws Exception {
+        new JournaledAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        Files.writeString(journalFilePath, "{\"sequence\":1,\"from\":0,\"to\":1,\"persons\":[]}\n");
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_entryAddsDuplicate_throwsDataLoadingException() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        String entry = Files.readAllLines(journalFilePath).get(0);
+        Files.writeString(journalFilePath, entry.replace("\"sequence\":1", "\"sequence\":2") + "\n",
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesWholeAddressBook() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook, otherFilePath);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook, otherFilePath);
+
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_journalReplayedOverCompressedFile() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, FsyncPolicy.NEVER, true, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals((byte) 0x1f, Files.readAllBytes(filePath)[0]);
+        assertTrue(Files.readString(journalFilePath).contains(HOON.getEmail().value));
+        assertEquals(addressBook, readFromNewStorage());
+    }
+
+    private AddressBook readFromNewStorage() throws Exception {
+        return new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    // batches of two records, so that the typical persons span several batches converted on different threads
+    private final ForkJoinPool pool = new ForkJoinPool(3);
+    private final JsonAddressBookReader reader = new JsonAddressBookReader(pool, 2);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(reader.read(TEST_DATA_FOLDER.resolve("NonExistentFile.json")).isPresent());
+    }
+
+    @Test
+    public void read_typicalPersonsFile_personsInFileOrder() throws Exception {
+        JsonAddressBookReader.Result result = reader.read(TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"))
+                .get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), result.toAddressBook());
+        assertEquals(0, result.getJournalSequence());
+    }
+
+    @Test
+    public void read_manyBatches_sameAsToModelType() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").withHandle("@person" + i).build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        JsonAddressBookReader.Result result = read(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook,
+                42)));
+        assertEquals(persons, result.getPersons());
+        assertEquals(42, result.getJournalSequence());
+    }
+
+    @Test
+    public void read_invalidAndDuplicatePersons_reportsEveryRecordAsToModelTypeDoes() throws Exception {
+        Path file = TEST_DATA_FOLDER.resolve("invalidAndDuplicatePersonAddressBook.json");
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_RECORD, 2, Email.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECORD, 3, 1)
+                + "\n" + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECORD, 4, 1);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> reader.read(file));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class).get().toModelType());
+    }
+
+    @Test
+    public void read_emptyRecord_reportedWithRecordNumber() throws Exception {
+        String json = "{\"persons\": [" + JsonUtil.toSingleLineJsonString(new JsonAdaptedPerson(TypicalPersons.ALICE))
+                + ", null]}";
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_RECORD,
+                2, JsonAddressBookReader.MESSAGE_EMPTY_RECORD), () -> read(json));
+    }
+
+    @Test
+    public void read_fieldsInAnyOrderAndUnknownFields_read() throws Exception {
+        String json = "{\"journalSequence\": 5, \"extra\": {\"persons\": [1]}, \"persons\": ["
+                + JsonUtil.toSingleLineJsonString(new JsonAdaptedPerson(TypicalPersons.ALICE)) + "]}";
+        JsonAddressBookReader.Result result = read(json);
+        assertEquals(List.of(TypicalPersons.ALICE), result.getPersons());
+        assertEquals(5, result.getJournalSequence());
+    }
+
+    @Test
+    public void read_notAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> read("[]"));
+        assertThrows(IOException.class, () -> read("{\"persons\": [{\"name\": "));
+        assertThrows(IOException.class, () -> read("not json"));
+    }
+
+    private JsonAddressBookReader.Result read(String json) throws Exception {
+        return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -2,20 +2,25 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.CrashSimulator.crashWhileSaving;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +91,52 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_notPrettyPrinted_singleLineReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, FsyncPolicy.NEVER, false);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readBackWithOrWithoutCompression() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path uncompressedFilePath = testFolder.resolve("Uncompressed.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath, FsyncPolicy.NEVER, true, true).saveAddressBook(original);
+        new JsonAddressBookStorage(uncompressedFilePath, FsyncPolicy.NEVER, true, false).saveAddressBook(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, bytes[0]);
+        assertEquals((byte) 0x8b, bytes[1]);
+        assertTrue(bytes.length < Files.size(uncompressedFilePath));
+        // the format is told by the file itself, whatever the storage reading it writes
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(uncompressedFilePath, FsyncPolicy.NEVER,
+                true, true).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_crashPartwayThrough_lastSavedAddressBookRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, FsyncPolicy.BATCHED);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        crashWhileSaving(filePath, JsonUtil.toJsonString(new JsonSerializableAddressBook(changed)));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // the app starts again and saves over what the crash left behind
+        jsonAddressBookStorage.saveAddressBook(changed);
+        assertEquals(changed, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
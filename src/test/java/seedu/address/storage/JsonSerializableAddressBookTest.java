@@ -3,14 +3,19 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +24,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path INVALID_AND_DUPLICATE_PERSON_FILE =
+            TEST_DATA_FOLDER.resolve("invalidAndDuplicatePersonAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -40,8 +47,50 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECORD, 2, 1);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidAndDuplicatePersons_reportsEveryRecord() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_AND_DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook.class).get();
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_RECORD, 2, Email.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECORD, 3, 1)
+                + "\n" + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_RECORD, 4, 1);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void writeJson_prettyPrinted_sameAsWholeObjectSerialized() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                writeJson(addressBook, 0, true));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook, 7)),
+                writeJson(addressBook, 7, true));
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(new AddressBook())),
+                writeJson(new AddressBook(), 0, true));
+    }
+
+    @Test
+    public void writeJson_compact_readBack() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        String json = writeJson(addressBook, 3, false);
+        assertEquals(1, json.lines().count());
+
+        JsonSerializableAddressBook readBack = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class);
+        assertEquals(addressBook, readBack.toModelType());
+        assertEquals(3, readBack.getJournalSequence());
+    }
+
+    private static String writeJson(AddressBook addressBook, long journalSequence, boolean isPrettyPrinted)
+            throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted);
+        JsonSerializableAddressBook.writeJson(addressBook, journalSequence, generator);
+        generator.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.CrashSimulator.crashWhileSaving;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -12,8 +13,10 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.UserPrefs;
 
 public class JsonUserPrefsStorageTest {
@@ -77,6 +80,19 @@ public class JsonUserPrefsStorageTest {
         return userPrefs;
     }
 
+    @Test
+    public void saveUserPrefs_crashPartwayThrough_lastSavedPrefsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempPrefs.json");
+        JsonUserPrefsStorage jsonUserPrefsStorage = new JsonUserPrefsStorage(filePath, FsyncPolicy.NEVER);
+        UserPrefs original = getTypicalUserPrefs();
+        jsonUserPrefsStorage.saveUserPrefs(original);
+
+        UserPrefs changed = getTypicalUserPrefs();
+        changed.setGuiSettings(new GuiSettings(1200, 200, 0, 2));
+        crashWhileSaving(filePath, JsonUtil.toJsonString(changed));
+        assertEquals(original, jsonUserPrefsStorage.readUserPrefs().get());
+    }
+
     @Test
     public void savePrefs_nullPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveUserPrefs(null, "SomeFile.json"));
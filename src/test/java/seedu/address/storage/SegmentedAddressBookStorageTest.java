@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path manifestPath;
+    private SegmentedAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        manifestPath = testFolder.resolve("addressbook.segments").resolve("manifest.json");
+        storage = new SegmentedAddressBookStorage(manifestPath, SEGMENT_COUNT, FsyncPolicy.NEVER, false);
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), readFromNewStorage().getPersonList());
+
+        // add, edit, delete and clear, each read back in the order of the person list
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), readFromNewStorage().getPersonList());
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("1 Edited Road").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), readFromNewStorage().getPersonList());
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), readFromNewStorage().getPersonList());
+        addressBook.setPersons(List.of());
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList(), readFromNewStorage().getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_edit_onlyOneSegmentRewritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        List<String> before = readManifest().getSegmentFiles();
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress("1 Edited Road").build());
+        storage.saveAddressBook(addressBook);
+        List<String> after = readManifest().getSegmentFiles();
+
+        assertEquals(SEGMENT_COUNT, after.size());
+        int rewritten = 0;
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            rewritten += before.get(i).equals(after.get(i)) ? 0 : 1;
+        }
+        assertEquals(1, rewritten);
+        // the files replaced are deleted
+        assertEquals(after.stream().sorted().collect(Collectors.toList()), listSegmentFiles());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long generation = readManifest().getGeneration();
+        storage.saveAddressBook(addressBook);
+        assertEquals(generation, readManifest().getGeneration());
+    }
+
+    @Test
+    public void saveAddressBook_repeatedInsertsAtFront_orderKept() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        // enough inserts at the same place to use up the gap between the ranks, so the persons are ranked again
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        for (int i = 0; i < 25; i++) {
+            persons.add(0, new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@example.com").withHandle("@person" + i).build());
+            addressBook.setPersons(persons);
+            storage.saveAddressBook(addressBook);
+        }
+        assertEquals(persons, readFromNewStorage().getPersonList());
+        assertEquals(SEGMENT_COUNT, listSegmentFiles().size());
+    }
+
+    @Test
+    public void readAddressBook_otherSegmentCount_readAndLaidOutAgainOnSave() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        SegmentedAddressBookStorage resized = new SegmentedAddressBookStorage(manifestPath, 3, FsyncPolicy.NEVER,
+                false);
+        assertEquals(addressBook, resized.readAddressBook().get());
+        addressBook.addPerson(IDA);
+        resized.saveAddressBook(addressBook);
+        assertEquals(3, readManifest().getSegmentFiles().size());
+        assertEquals(3, listSegmentFiles().size());
+        assertEquals(addressBook.getPersonList(), readFromNewStorage().getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        for (String segmentFile : listSegmentFiles()) {
+            Path segmentPath = manifestPath.resolveSibling(segmentFile);
+            Files.writeString(segmentPath, Files.readString(segmentPath).replace(ALICE.getEmail().value, "invalid"));
+        }
+        assertThrows(DataLoadingException.class, () -> readFromNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(manifestPath.resolveSibling(readManifest().getSegmentFiles().get(0)));
+        assertThrows(DataLoadingException.class, () -> readFromNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_ownSegmentsUntouched() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Path otherManifestPath = testFolder.resolve("backup").resolve("manifest.json");
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook, otherManifestPath);
+
+        assertEquals(addressBook, storage.readAddressBook(otherManifestPath).get());
+        assertFalse(readFromNewStorage().hasPerson(HOON));
+        // the next save to the storage's own path still finds the change
+        storage.saveAddressBook(addressBook);
+        assertTrue(readFromNewStorage().hasPerson(HOON));
+    }
+
+    @Test
+    public void segmentOf_evenlySpacedRanks_spreadOverEverySegment() {
+        int[] counts = new int[SEGMENT_COUNT];
+        for (int i = 1; i <= 1000; i++) {
+            counts[SegmentedAddressBookStorage.segmentOf(i * SegmentedAddressBookStorage.RANK_GAP, SEGMENT_COUNT)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 200 && count < 300);
+        }
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "addressbook.segments", "manifest.json"),
+                SegmentedAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    private AddressBook readFromNewStorage() throws Exception {
+        return new AddressBook(new SegmentedAddressBookStorage(manifestPath, SEGMENT_COUNT, FsyncPolicy.NEVER, false)
+                .readAddressBook().get());
+    }
+
+    private JsonSegmentManifest readManifest() throws Exception {
+        return JsonUtil.readJsonFile(manifestPath, JsonSegmentManifest.class).get();
+    }
+
+    private List<String> listSegmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(manifestPath.getParent())) {
+            return files.map(file -> file.getFileName().toString()).filter(name -> name.startsWith("segment-"))
+                    .sorted().collect(Collectors.toList());
+        }
+    }
+}
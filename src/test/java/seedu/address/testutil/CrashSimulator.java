@@ -0,0 +1,45 @@
+package seedu.address.testutil;
+
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+
+/**
+ * Simulates the app crashing partway through saving a file.
+ */
+public class CrashSimulator {
+
+    /**
+     * Stands in for the crash. It is an {@code Error}, which the code writing the file does not clean up after as it
+     * does after an {@code IOException}, so whatever was written stays on disk, as it would after a real crash.
+     */
+    public static class SimulatedCrash extends Error {
+        public SimulatedCrash() {
+            super("Simulated crash");
+        }
+    }
+
+    /**
+     * Returns a writer that writes the first {@code bytesBeforeCrash} bytes of {@code content} and then crashes.
+     */
+    public static ContentWriter crashingWriter(String content, int bytesBeforeCrash) {
+        return out -> {
+            out.write(content.getBytes(StandardCharsets.UTF_8), 0, bytesBeforeCrash);
+            out.flush();
+            throw new SimulatedCrash();
+        };
+    }
+
+    /**
+     * Saves {@code content} to {@code file} as the storage classes do, crashing halfway through.
+     */
+    public static void crashWhileSaving(Path file, String content) {
+        int halfway = content.getBytes(StandardCharsets.UTF_8).length / 2;
+        assertThrows(SimulatedCrash.class, () ->
+                FileUtil.writeToFileAtomically(file, crashingWriter(content, halfway), true));
+    }
+}